@@ -110,6 +110,19 @@ public interface GameRegistry {
      */
     <T extends CatalogType> Collection<T> getAllOf(Class<T> typeClass);
 
+    /**
+     * Gets the current version of the catalog of the given
+     * {@link CatalogType} class. The version changes whenever a type of that
+     * class is registered, through {@link #register(Class, CatalogType)} or
+     * a registry module, so that indexes derived from
+     * {@link #getAllOf(Class)} can be kept until the catalog changes instead
+     * of being checked against the whole catalog on every use.
+     *
+     * @param typeClass The class of {@link CatalogType}
+     * @return The current catalog version
+     */
+    long getCatalogVersion(Class<? extends CatalogType> typeClass);
+
     /**
      * Registers the {@link CatalogRegistryModule} for catalog registration and handling.
      * By default, the only supported modules that can be registered are dependent that
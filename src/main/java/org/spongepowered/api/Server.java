@@ -25,6 +25,7 @@
 package org.spongepowered.api;
 
 import com.flowpowered.math.vector.Vector3d;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.util.concurrent.ListenableFuture;
 import org.spongepowered.api.entity.Entity;
 import org.spongepowered.api.entity.living.player.Player;
@@ -57,6 +58,21 @@ public interface Server {
      */
     Collection<Player> getOnlinePlayers();
 
+    /**
+     * Gets an immutable snapshot of the {@link Player}s currently online.
+     *
+     * <p>Implementations should keep a single snapshot and replace it when
+     * a player joins or leaves, rather than copying the online players on
+     * every call, since this is consulted on every broadcast to
+     * {@link MessageChannel#TO_PLAYERS}. The default implementation copies
+     * {@link #getOnlinePlayers()}.</p>
+     *
+     * @return An immutable set of online players
+     */
+    default ImmutableSet<Player> getOnlinePlayersSnapshot() {
+        return ImmutableSet.copyOf(getOnlinePlayers());
+    }
+
     /**
      * Gets the max players allowed on this server.
      *
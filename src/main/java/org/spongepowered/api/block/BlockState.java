@@ -32,6 +32,8 @@
 import org.spongepowered.api.data.ImmutableDataHolder;
 import org.spongepowered.api.data.key.Key;
 import org.spongepowered.api.data.manipulator.DataManipulator;
+import org.spongepowered.api.data.manipulator.ImmutableDataManipulator;
+import org.spongepowered.api.data.manipulator.ImmutableManipulatorCache;
 import org.spongepowered.api.data.property.DirectionRelativePropertyHolder;
 import org.spongepowered.api.data.value.BaseValue;
 import org.spongepowered.api.data.value.immutable.ImmutableValue;
@@ -41,6 +43,7 @@
 import org.spongepowered.api.world.World;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -50,6 +53,12 @@
  * the information for the "block". Note that normally, there may exist only
  * a single instance of a particular {@link BlockState} as they are immutable,
  * a particular instance may be cached for various uses.
+ *
+ * <p>The immutable manipulators of a state, such as
+ * {@link org.spongepowered.api.data.manipulator.immutable.block.ImmutableAxisData}
+ * or {@link org.spongepowered.api.data.manipulator.immutable.block.ImmutableSlabData},
+ * may be shared between all states with the same value, see
+ * {@link #getManipulators()}.</p>
  */
 public interface BlockState extends ImmutableDataHolder<BlockState>, DirectionRelativePropertyHolder, CatalogType {
 
@@ -147,6 +156,11 @@ static Builder builder() {
      * an instance {@link Object#toString()}, {@link Optional#empty()} may be
      * returned.
      *
+     * <p>Block states are a finite set per {@link BlockType}, so this method
+     * never creates new states. Implementations are expected to resolve it,
+     * and {@link #with} for trait backed keys, through precomputed
+     * {@link BlockStateTransitions}.</p>
+     *
      * @param trait The trait
      * @param value The value
      * @return The blockstate, if supported
@@ -179,6 +193,21 @@ static Builder builder() {
      */
     Map<BlockTrait<?>, ?> getTraitMap();
 
+    /**
+     * Gets the immutable manipulators of this {@link BlockState}.
+     *
+     * <p>The returned manipulators may be shared with other states, and
+     * with other calls of this method, holding the same values, for example
+     * through the {@link ImmutableManipulatorCache}. They are immutable, so
+     * sharing them is safe, but callers must compare them with
+     * {@link Object#equals(Object)} and never rely on their identity, such
+     * as by using them as keys of identity based maps or as locks.</p>
+     *
+     * @return A list of all known manipulators
+     */
+    @Override
+    List<ImmutableDataManipulator<?, ?>> getManipulators();
+
     /**
      * An {@link ImmutableDataBuilder} for a {@link BlockState}. Just like the
      * {@link ImmutableDataBuilder}, the {@link DataManipulator}s passed in to
@@ -0,0 +1,183 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.block;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.ImmutableList;
+import org.spongepowered.api.block.trait.BlockTrait;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A precomputed table of the transitions between the {@link BlockState}s of
+ * a single {@link BlockType}, for implementing
+ * {@link BlockState#withTrait(BlockTrait, Object)} and the trait backed
+ * variants of {@link BlockState#with} without searching or creating states.
+ *
+ * <p>The table is built once from all states of the block type. Every state
+ * has a {@link #getStateIndex(BlockState) state index} and every trait and
+ * value pair a {@link #getTransitionIndex(BlockTrait, Object) transition
+ * index}. Implementations are expected to resolve both once, for example
+ * when creating their states and traits, so that changing a trait of a
+ * state through {@link #with(int, int)} is a single array access.</p>
+ */
+public final class BlockStateTransitions {
+
+    /**
+     * Builds the transition table between the given states, which must be
+     * all the states of a single {@link BlockType}.
+     *
+     * @param states The states of the block type
+     * @return The transition table
+     * @throws IllegalArgumentException If the states are empty, do not
+     *         share the same traits or do not cover every combination of
+     *         trait values
+     */
+    public static BlockStateTransitions of(Collection<BlockState> states) {
+        return new BlockStateTransitions(ImmutableList.copyOf(checkNotNull(states, "states")));
+    }
+
+    private final Map<BlockState, Integer> stateIndexes = new IdentityHashMap<>();
+    private final Map<BlockTrait<?>, Map<Object, Integer>> transitionIndexes = new IdentityHashMap<>();
+    private final int stride;
+    private final BlockState[] table;
+
+    private BlockStateTransitions(List<BlockState> states) {
+        checkArgument(!states.isEmpty(), "No states given");
+        final List<BlockTrait<?>> traits = ImmutableList.copyOf(states.get(0).getTraits());
+        final Map<Map<BlockTrait<?>, ?>, BlockState> statesByTraits = new HashMap<>();
+        for (int i = 0; i < states.size(); i++) {
+            final BlockState state = states.get(i);
+            checkArgument(state.getTraits().size() == traits.size() && state.getTraits().containsAll(traits),
+                    "The state %s does not share the traits of the other states", state);
+            this.stateIndexes.put(state, i);
+            statesByTraits.put(state.getTraitMap(), state);
+        }
+
+        int transition = 0;
+        for (BlockTrait<?> trait : traits) {
+            final Map<Object, Integer> values = new HashMap<>();
+            for (Object value : trait.getPossibleValues()) {
+                values.put(value, transition++);
+            }
+            this.transitionIndexes.put(trait, values);
+        }
+        this.stride = transition;
+
+        this.table = new BlockState[states.size() * this.stride];
+        for (int i = 0; i < states.size(); i++) {
+            final Map<BlockTrait<?>, ?> traitMap = states.get(i).getTraitMap();
+            for (BlockTrait<?> trait : traits) {
+                for (Map.Entry<Object, Integer> value : this.transitionIndexes.get(trait).entrySet()) {
+                    final Map<BlockTrait<?>, Object> target = new HashMap<>(traitMap);
+                    target.put(trait, value.getKey());
+                    final BlockState state = statesByTraits.get(target);
+                    checkArgument(state != null, "No state with the traits %s", target);
+                    this.table[i * this.stride + value.getValue()] = state;
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the index of the given state in this table.
+     *
+     * @param state The state
+     * @return The index of the state, or {@code -1} if the state is not part
+     *         of this table
+     */
+    public int getStateIndex(BlockState state) {
+        final Integer index = this.stateIndexes.get(state);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Gets the index of the transition that sets the given
+     * {@link BlockTrait} to the given value.
+     *
+     * @param trait The trait to change
+     * @param value The new value of the trait
+     * @return The index of the transition, or {@code -1} if the trait or
+     *         value is not part of this table
+     */
+    public int getTransitionIndex(BlockTrait<?> trait, Object value) {
+        final Map<Object, Integer> values = this.transitionIndexes.get(trait);
+        if (values == null) {
+            return -1;
+        }
+        final Integer index = values.get(value);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Gets the state that results from applying the given transition to the
+     * given state.
+     *
+     * @param stateIndex The {@link #getStateIndex(BlockState) index} of the
+     *        state to change
+     * @param transitionIndex The
+     *        {@link #getTransitionIndex(BlockTrait, Object) index} of the
+     *        transition
+     * @return The resulting state
+     * @throws IndexOutOfBoundsException If either index is not part of this
+     *         table
+     */
+    public BlockState with(int stateIndex, int transitionIndex) {
+        if (transitionIndex < 0 || transitionIndex >= this.stride) {
+            throw new IndexOutOfBoundsException("transition index: " + transitionIndex);
+        }
+        return this.table[stateIndex * this.stride + transitionIndex];
+    }
+
+    /**
+     * Gets the state that differs from the given state only in the value of
+     * the given {@link BlockTrait}.
+     *
+     * <p>This resolves both indexes on every call, hot paths should keep
+     * them and use {@link #with(int, int)} instead.</p>
+     *
+     * @param state The state to change
+     * @param trait The trait to change
+     * @param value The new value of the trait
+     * @return The resulting state, or {@link Optional#empty()} if the state,
+     *         trait or value is not part of this table
+     */
+    public Optional<BlockState> with(BlockState state, BlockTrait<?> trait, Object value) {
+        final int stateIndex = getStateIndex(state);
+        final int transitionIndex = getTransitionIndex(trait, value);
+        if (stateIndex < 0 || transitionIndex < 0) {
+            return Optional.empty();
+        }
+        return Optional.of(with(stateIndex, transitionIndex));
+    }
+
+}
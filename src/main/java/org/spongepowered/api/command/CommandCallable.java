@@ -26,9 +26,11 @@
 
 import org.spongepowered.api.text.Text;
 import org.spongepowered.api.command.spec.CommandSpec;
+import org.spongepowered.api.util.Functional;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * A low-level interface for commands that can be executed. For almost all use
@@ -65,6 +67,46 @@ public interface CommandCallable {
      */
     List<String> getSuggestions(CommandSource source, String arguments) throws CommandException;
 
+    /**
+     * Execute the command based on input arguments, without waiting for
+     * work that does not need to happen on the calling thread.
+     *
+     * <p>Commands that do blocking work, such as querying a database or the
+     * profile service, should override this method to do that work off the
+     * main thread and to schedule any access to the world back onto the main
+     * thread, for example through
+     * {@link org.spongepowered.api.scheduler.Scheduler#createSyncExecutor(Object)}.
+     * By default, the command is processed on the calling thread with
+     * {@link #process(CommandSource, String)}.</p>
+     *
+     * <p>Errors are reported by completing the returned future exceptionally
+     * with a {@link CommandException}, which may be wrapped in a
+     * {@link java.util.concurrent.CompletionException}.</p>
+     *
+     * @param source The caller of the command
+     * @param arguments The raw arguments for this command
+     * @return The future result of the command being processed
+     */
+    default CompletableFuture<CommandResult> processAsync(CommandSource source, String arguments) {
+        return Functional.failableFuture(() -> process(source, arguments));
+    }
+
+    /**
+     * Get a list of suggestions based on input, without waiting for work
+     * that does not need to happen on the calling thread.
+     *
+     * <p>By default, the suggestions are computed on the calling thread with
+     * {@link #getSuggestions(CommandSource, String)}.</p>
+     *
+     * @param source The command source
+     * @param arguments The arguments entered up to this point
+     * @return The future list of suggestions
+     * @see #processAsync(CommandSource, String)
+     */
+    default CompletableFuture<List<String>> getSuggestionsAsync(CommandSource source, String arguments) {
+        return Functional.failableFuture(() -> getSuggestions(source, arguments));
+    }
+
     /**
      * Test whether this command can probably be executed by the given source.
      *
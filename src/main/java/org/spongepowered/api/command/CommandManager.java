@@ -30,6 +30,7 @@
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
 /**
@@ -156,4 +157,37 @@ public interface CommandManager extends Dispatcher {
     @Override
     List<String> getSuggestions(CommandSource source, String arguments);
 
+    /**
+     * Execute the command based on input arguments, letting commands that
+     * support it do their work off the main thread.
+     *
+     * <p>The implementing class must perform the necessary permission
+     * checks.</p>
+     *
+     * <p>The returned future is always completed on the main server thread,
+     * so stages added to it without an explicit executor may safely access
+     * the world.</p>
+     *
+     * @param source The caller of the command
+     * @param arguments The raw arguments for this command
+     * @return The future result of the command being processed
+     * @see CommandCallable#processAsync(CommandSource, String)
+     */
+    @Override
+    CompletableFuture<CommandResult> processAsync(CommandSource source, String arguments);
+
+    /**
+     * Get a list of suggestions based on input, letting commands that
+     * support it compute their suggestions off the main thread.
+     *
+     * <p>Unlike {@link #processAsync(CommandSource, String)}, the returned
+     * future may be completed on any thread.</p>
+     *
+     * @param source The command source
+     * @param arguments The arguments entered up to this point
+     * @return The future list of suggestions
+     */
+    @Override
+    CompletableFuture<List<String>> getSuggestionsAsync(CommandSource source, String arguments);
+
 }
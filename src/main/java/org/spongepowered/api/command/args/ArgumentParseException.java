@@ -28,6 +28,10 @@
 import org.spongepowered.api.text.Text;
 import org.spongepowered.api.command.CommandException;
 
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
+
 /**
  * Exception thrown when an error occurs while parsing arguments.
  */
@@ -64,11 +68,56 @@ public ArgumentParseException(Text message, Throwable cause, String source, int
         this.position = position;
     }
 
+    /**
+     * An {@link ArgumentParseException} that does not capture a stack trace
+     * and only creates its message when it is requested, created for
+     * failures of speculative parsing which are usually caught and rolled
+     * back.
+     *
+     * @see CommandArgs#startSpeculation()
+     */
+    static class Speculative extends ArgumentParseException {
+        private static final long serialVersionUID = 3520391851434296874L;
+
+        @Nullable private transient Supplier<Text> messageSupplier;
+        @Nullable private Text message;
+
+        Speculative(Supplier<Text> message, String source, int position) {
+            super(null, source, position);
+            this.messageSupplier = message;
+        }
+
+        @Nullable
+        @Override
+        Text getMessageText() {
+            if (this.messageSupplier != null) {
+                this.message = this.messageSupplier.get();
+                this.messageSupplier = null;
+            }
+            return this.message;
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+
+    /**
+     * Gets the message of this exception, without the annotated position.
+     *
+     * @return The message
+     */
+    @Nullable
+    Text getMessageText() {
+        return super.getText();
+    }
+
     @Override
     public Text getText() {
-        Text superText = super.getText();
+        Text superText = getMessageText();
         if (this.source == null || this.source.isEmpty()) {
-            return super.getText();
+            return superText;
         } else if (superText == null) {
             return Text.of(getAnnotatedPosition());
         } else {
@@ -155,7 +155,7 @@ protected Object parseValue(CommandSource source, CommandArgs args) throws Argum
         final String key = args.next();
         final Optional<CommandMapping> mapping = this.dispatcher.get(key, source);
         if (!mapping.isPresent()) {
-            throw args.createError(t("Input command %s was not a valid subcommand!", key));
+            throw args.createError(() -> t("Input command %s was not a valid subcommand!", key));
         }
 
         return mapping.get();
@@ -33,6 +33,7 @@
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -42,6 +43,7 @@ public final class CommandArgs {
     private final String rawInput;
     private List<SingleArg> args;
     private int index = -1;
+    private int speculationDepth;
 
     /**
      * Create a new CommandArgs instance with the given raw input and arguments.
@@ -71,7 +73,7 @@ public boolean hasNext() {
      */
     public String peek() throws ArgumentParseException {
         if (!hasNext()) {
-            throw createError(t("Not enough arguments"));
+            throw createError(() -> t("Not enough arguments"));
         }
         return this.args.get(this.index + 1).getValue();
     }
@@ -84,7 +86,7 @@ public String peek() throws ArgumentParseException {
      */
     public String next() throws ArgumentParseException {
         if (!hasNext()) {
-            throw createError(t("Not enough arguments!"));
+            throw createError(() -> t("Not enough arguments!"));
         }
         return this.args.get(++this.index).getValue();
     }
@@ -106,7 +108,58 @@ public Optional<String> nextIfPresent() {
      * @return the newly created, but unthrown exception
      */
     public ArgumentParseException createError(Text message) {
-        return new ArgumentParseException(message, this.rawInput, this.index < 0 ? 0 : this.args.get(this.index).getStartIdx());
+        final int position = this.index < 0 ? 0 : this.args.get(this.index).getStartIdx();
+        if (this.speculationDepth > 0) {
+            return new ArgumentParseException.Speculative(() -> message, this.rawInput, position);
+        }
+        return new ArgumentParseException(message, this.rawInput, position);
+    }
+
+    /**
+     * Create a parse exception with a lazily created message which has the
+     * position of the last parsed argument attached. The returned exception
+     * must be thrown at the target.
+     *
+     * <p>During {@link #startSpeculation() speculative parsing}, the message
+     * is only created if the exception is not rolled back and its text is
+     * requested, so failed alternatives do not build and translate their
+     * messages.</p>
+     *
+     * @param message The supplier of the message for the exception
+     * @return the newly created, but unthrown exception
+     */
+    public ArgumentParseException createError(Supplier<Text> message) {
+        if (this.speculationDepth > 0) {
+            final int position = this.index < 0 ? 0 : this.args.get(this.index).getStartIdx();
+            return new ArgumentParseException.Speculative(message, this.rawInput, position);
+        }
+        return createError(message.get());
+    }
+
+    /**
+     * Mark the start of speculative parsing, which is rolled back with
+     * {@link #setState(Object)} if it fails, such as trying each alternative
+     * of {@link GenericArguments#firstParsing(CommandElement...)}. Errors
+     * created by {@link #createError(Text)} during speculative parsing do not
+     * capture a stack trace, and errors created by
+     * {@link #createError(Supplier)} additionally defer creating their
+     * message, which makes failed alternatives cheap.
+     *
+     * <p>Every call must be followed by a call to {@link #endSpeculation()},
+     * usually in a {@code finally} block.</p>
+     */
+    public void startSpeculation() {
+        ++this.speculationDepth;
+    }
+
+    /**
+     * Mark the end of speculative parsing started by
+     * {@link #startSpeculation()}.
+     */
+    public void endSpeculation() {
+        if (this.speculationDepth > 0) {
+            --this.speculationDepth;
+        }
     }
 
     /**
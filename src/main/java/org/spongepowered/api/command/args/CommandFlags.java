@@ -40,6 +40,7 @@
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
@@ -106,11 +107,11 @@ private boolean parseLongFlag(CommandSource source, String longFlag, CommandArgs
             final String[] flagSplit = longFlag.split("=", 2);
             longFlag = flagSplit[0];
             String value = flagSplit[1];
-            CommandElement element = this.longFlags.get(longFlag.toLowerCase());
+            CommandElement element = this.longFlags.get(longFlag.toLowerCase(Locale.ENGLISH));
             if (element == null) {
                 switch (this.unknownLongFlagBehavior) {
                     case ERROR:
-                        throw args.createError(t("Unknown long flag %s specified", args));
+                        throw args.createError(() -> t("Unknown long flag %s specified", args));
                     case ACCEPT_NONVALUE:
                     case ACCEPT_VALUE:
                         context.putArg(longFlag, value);
@@ -125,11 +126,11 @@ private boolean parseLongFlag(CommandSource source, String longFlag, CommandArgs
                 element.parse(source, args, context);
             }
         } else {
-            CommandElement element = this.longFlags.get(longFlag.toLowerCase());
+            CommandElement element = this.longFlags.get(longFlag.toLowerCase(Locale.ENGLISH));
             if (element == null) {
                 switch (this.unknownLongFlagBehavior) {
                     case ERROR:
-                        throw args.createError(t("Unknown long flag %s specified", args));
+                        throw args.createError(() -> t("Unknown long flag %s specified", args));
                     case ACCEPT_NONVALUE:
                         context.putArg(longFlag, true);
                         break;
@@ -160,7 +161,7 @@ private boolean parseShortFlags(CommandSource source, String shortFlags, Command
                             return false;
                         }
                     case ERROR:
-                        throw args.createError(t("Unknown short flag %s specified", flagChar));
+                        throw args.createError(() -> t("Unknown short flag %s specified", flagChar));
                     case ACCEPT_NONVALUE:
                         context.putArg(flagChar, true);
                         break;
@@ -250,7 +251,7 @@ private List<String> tabCompleteLongFlag(String longFlag, CommandSource src, Com
             final String[] flagSplit = longFlag.split("=", 2);
             longFlag = flagSplit[0];
             String value = flagSplit[1];
-            CommandElement element = this.longFlags.get(longFlag.toLowerCase());
+            CommandElement element = this.longFlags.get(longFlag.toLowerCase(Locale.ENGLISH));
             if (element == null) { // Whole flag is specified, we'll go to value
                 context.putArg(longFlag, value);
             } else {
@@ -266,7 +267,7 @@ private List<String> tabCompleteLongFlag(String longFlag, CommandSource src, Com
                 }
             }
         } else {
-            CommandElement element = this.longFlags.get(longFlag.toLowerCase());
+            CommandElement element = this.longFlags.get(longFlag.toLowerCase(Locale.ENGLISH));
             if (element == null) {
                 List<String> retStrings = this.longFlags.keySet().stream()
                     .filter(new StartsWithPredicate(longFlag))
@@ -370,7 +371,7 @@ private Builder flag(Function<String, CommandElement> func, String... specs) {
                         el = func.apply(flagKey);
                     }
                     availableFlags.add(flagKey);
-                    this.longFlags.put(flagKey.toLowerCase(), el);
+                    this.longFlags.put(flagKey.toLowerCase(Locale.ENGLISH), el);
                 } else {
                     for (int i = 0; i < spec.length(); ++i) {
                         final String flagKey = spec.substring(i, i + 1);
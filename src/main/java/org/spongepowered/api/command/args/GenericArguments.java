@@ -33,6 +33,7 @@
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Iterables;
 import org.spongepowered.api.CatalogType;
+import org.spongepowered.api.GameRegistry;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.command.CommandMessageFormatting;
 import org.spongepowered.api.command.CommandSource;
@@ -40,6 +41,7 @@
 import org.spongepowered.api.entity.living.player.Player;
 import org.spongepowered.api.text.Text;
 import org.spongepowered.api.util.GuavaCollectors;
+import org.spongepowered.api.util.PrefixIndex;
 import org.spongepowered.api.util.StartsWithPredicate;
 import org.spongepowered.api.world.DimensionType;
 import org.spongepowered.api.world.Location;
@@ -51,6 +53,7 @@
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -298,7 +301,7 @@ private ChoicesCommandElement(Text key, Map<String, Object> choices, boolean cho
         public Object parseValue(CommandSource source, CommandArgs args) throws ArgumentParseException {
             Object value = this.choices.get(args.next());
             if (value == null) {
-                throw args.createError(t("Argument was not a valid choice. Valid choices: %s", this.choices.keySet().toString()));
+                throw args.createError(() -> t("Argument was not a valid choice. Valid choices: %s", this.choices.keySet().toString()));
             }
             return value;
         }
@@ -353,12 +356,15 @@ public void parse(CommandSource source, CommandArgs args, CommandContext context
             ArgumentParseException lastException = null;
             for (CommandElement element : this.elements) {
                 Object startState = args.getState();
+                args.startSpeculation();
                 try {
                     element.parse(source, args, context);
                     return;
                 } catch (ArgumentParseException ex) {
                     lastException = ex;
                     args.setState(startState);
+                } finally {
+                    args.endSpeculation();
                 }
             }
             if (lastException != null) {
@@ -478,6 +484,7 @@ public void parse(CommandSource source, CommandArgs args, CommandContext context
                 return;
             }
             Object startState = args.getState();
+            args.startSpeculation();
             try {
                 this.element.parse(source, args, context);
             } catch (ArgumentParseException ex) {
@@ -489,6 +496,8 @@ public void parse(CommandSource source, CommandArgs args, CommandContext context
                 } else {
                     throw ex;
                 }
+            } finally {
+                args.endSpeculation();
             }
         }
 
@@ -678,7 +687,7 @@ public Object parseValue(CommandSource source, CommandArgs args) throws Argument
             try {
                 return Integer.parseInt(input);
             } catch (NumberFormatException ex) {
-                throw args.createError(t("Expected an integer, but input '%s' was not", input));
+                throw args.createError(() -> t("Expected an integer, but input '%s' was not", input));
             }
         }
     }
@@ -706,7 +715,7 @@ public Object parseValue(CommandSource source, CommandArgs args) throws Argument
             try {
                 return Double.parseDouble(input);
             } catch (NumberFormatException ex) {
-                throw args.createError(t("Expected a number, but input '%s' was not", input));
+                throw args.createError(() -> t("Expected a number, but input '%s' was not", input));
             }
         }
     }
@@ -768,10 +777,19 @@ public static <T extends Enum<T>> CommandElement enumValue(Text key, Class<T> ty
 
     private static class EnumValueElement<T extends Enum<T>> extends PatternMatchingCommandElement {
         private final Class<T> type;
+        private final PrefixIndex<String> choiceIndex = new PrefixIndex<>();
 
         private EnumValueElement(Text key, Class<T> type) {
             super(key);
             this.type = type;
+            for (T constant : type.getEnumConstants()) {
+                this.choiceIndex.put(constant.name(), constant.name());
+            }
+        }
+
+        @Override
+        protected Iterable<String> getChoicesStartingWith(CommandSource source, String prefix) {
+            return this.choiceIndex.match(prefix);
         }
 
         @Override
@@ -783,7 +801,7 @@ protected Iterable<String> getChoices(CommandSource source) {
 
         @Override
         protected Object getValue(String choice) throws IllegalArgumentException {
-            return Enum.valueOf(this.type, choice.toUpperCase());
+            return Enum.valueOf(this.type, choice.toUpperCase(Locale.ENGLISH));
         }
     }
 
@@ -872,7 +890,7 @@ protected Object parseValue(CommandSource source, CommandArgs args) throws Argum
             for (String arg : this.expectedArgs) {
                 String current;
                 if (!(current = args.next()).equalsIgnoreCase(arg)) {
-                    throw args.createError(t("Argument %s did not match expected next argument %s", current, arg));
+                    throw args.createError(() -> t("Argument %s did not match expected next argument %s", current, arg));
                 }
             }
             return this.putValue;
@@ -889,7 +907,7 @@ public List<String> complete(CommandSource src, CommandArgs args, CommandContext
                         break;
                     }
                 } else {
-                    if (arg.toLowerCase().startsWith(next.get().toLowerCase())) { // Case-insensitive compare
+                    if (arg.toLowerCase(Locale.ENGLISH).startsWith(next.get().toLowerCase(Locale.ENGLISH))) { // Case-insensitive compare
                         return ImmutableList.of(arg); // TODO: Possibly complete all remaining args? Does that even work
                     }
                 }
@@ -919,6 +937,9 @@ protected Object parseValue(CommandSource source, CommandArgs args) throws Argum
             }
 
             Object state = args.getState();
+            if (this.returnSource) {
+                args.startSpeculation();
+            }
             try {
                 return super.parseValue(source, args);
             } catch (ArgumentParseException ex) {
@@ -928,6 +949,10 @@ protected Object parseValue(CommandSource source, CommandArgs args) throws Argum
                 } else {
                     throw ex;
                 }
+            } finally {
+                if (this.returnSource) {
+                    args.endSpeculation();
+                }
             }
         }
 
@@ -951,7 +976,7 @@ private Player tryReturnSource(CommandSource source, CommandArgs args) throws Ar
             if (source instanceof Player) {
                 return ((Player) source);
             } else {
-                throw args.createError(t("No players matched and source was not a player!"));
+                throw args.createError(() -> t("No players matched and source was not a player!"));
             }
         }
 
@@ -1012,7 +1037,7 @@ protected Object parseValue(CommandSource source, CommandArgs args) throws Argum
             if (xStr.contains(",")) {
                 String[] split = xStr.split(",");
                 if (split.length != 3) {
-                    throw args.createError(t("Comma-separated location must have 3 elements, not %s", split.length));
+                    throw args.createError(() -> t("Comma-separated location must have 3 elements, not %s", split.length));
                 }
                 xStr = split[0];
                 yStr = split[1];
@@ -1052,7 +1077,7 @@ private double parseRelativeDouble(CommandArgs args, String arg, @Nullable Doubl
             boolean relative = arg.startsWith("~");
             if (relative) {
                 if (relativeTo == null) {
-                    throw args.createError(t("Relative position specified but source does not have a postion"));
+                    throw args.createError(() -> t("Relative position specified but source does not have a postion"));
                 }
                 arg = arg.substring(1);
             }
@@ -1085,7 +1110,7 @@ protected Object parseValue(CommandSource source, CommandArgs args) throws Argum
             } catch (ArgumentParseException ex) {
                 args.setState(state);
                 if (!(source instanceof LocatedSource)) {
-                    throw args.createError(t("Source must have a location in order to have a fallback world"));
+                    throw args.createError(() -> t("Source must have a location in order to have a fallback world"));
                 }
                 world = ((LocatedSource) source).getWorld().getProperties();
                 try {
@@ -1102,7 +1127,7 @@ protected Object parseValue(CommandSource source, CommandArgs args) throws Argum
             if (world instanceof Collection<?>) {
                 // multiple values
                 if (((Collection<?>) world).size() != 1) {
-                    throw args.createError(t("A location must be specified in only one world!"));
+                    throw args.createError(() -> t("A location must be specified in only one world!"));
                 }
                 world = ((Collection<?>) world).iterator().next();
             }
@@ -1126,19 +1151,38 @@ public List<String> complete(CommandSource src, CommandArgs args, CommandContext
 
     private static class CatalogedTypeCommandElement<T extends CatalogType> extends PatternMatchingCommandElement {
         private final Class<T> catalogType;
+        @Nullable private volatile CatalogChoices choices;
 
         protected CatalogedTypeCommandElement(Text key, Class<T> catalogType) {
             super(key);
             this.catalogType = catalogType;
         }
 
+        private CatalogChoices getCatalogChoices() {
+            final GameRegistry registry = Sponge.getGame().getRegistry();
+            final long version = registry.getCatalogVersion(this.catalogType);
+            CatalogChoices choices = this.choices;
+            // Only rebuilt when the catalog changes, not on every completion
+            if (choices == null || choices.version != version) {
+                final PrefixIndex<String> index = new PrefixIndex<>();
+                final ImmutableList.Builder<String> ids = ImmutableList.builder();
+                for (T type : registry.getAllOf(this.catalogType)) {
+                    index.put(type.getId(), type.getId()); // TODO: ids or names?
+                    ids.add(type.getId());
+                }
+                this.choices = choices = new CatalogChoices(version, index, ids.build());
+            }
+            return choices;
+        }
+
+        @Override
+        protected Iterable<String> getChoicesStartingWith(CommandSource source, String prefix) {
+            return getCatalogChoices().index.match(prefix);
+        }
+
         @Override
         protected Iterable<String> getChoices(CommandSource source) {
-            return Sponge.getGame().getRegistry().getAllOf(this.catalogType).stream()
-                .<String>map(input -> {
-                return input == null ? null : input.getId(); // TODO: ids or names?
-                })
-                .collect(Collectors.toList());
+            return getCatalogChoices().ids;
         }
 
         @Override
@@ -1151,6 +1195,18 @@ protected Object getValue(String choice) throws IllegalArgumentException {
         }
     }
 
+    private static final class CatalogChoices {
+        final long version;
+        final PrefixIndex<String> index;
+        final ImmutableList<String> ids;
+
+        CatalogChoices(long version, PrefixIndex<String> index, ImmutableList<String> ids) {
+            this.version = version;
+            this.index = index;
+            this.ids = ids;
+        }
+    }
+
     /**
      * Restricts the given command element to only insert one value into the context at the provided key.
      *
@@ -1173,7 +1229,7 @@ protected OnlyOneCommandElement(CommandElement element) {
         public void parse(CommandSource source, CommandArgs args, CommandContext context) throws ArgumentParseException {
             this.element.parse(source, args, context);
             if (context.getAll(this.element.getUntranslatedKey()).size() > 1) {
-                throw args.createError(t("Argument %s may have only one value!",  this.element.getKey()));
+                throw args.createError(() -> t("Argument %s may have only one value!",  this.element.getKey()));
             }
         }
 
@@ -1224,7 +1280,7 @@ protected Object parseValue(CommandSource source, CommandArgs args) throws Argum
 
         private void checkPermission(CommandSource source, CommandArgs args) throws ArgumentParseException {
             if (!source.hasPermission(this.permission)) {
-                throw args.createError(t("You do not have permission to use the %s argument", getKey()));
+                throw args.createError(() -> t("You do not have permission to use the %s argument", getKey()));
             }
         }
 
@@ -30,6 +30,8 @@
 import com.google.common.collect.Iterables;
 import org.spongepowered.api.text.Text;
 import org.spongepowered.api.command.CommandSource;
+import org.spongepowered.api.util.PrefixIndex;
+import org.spongepowered.api.util.StartsWithPredicate;
 
 import java.util.List;
 import java.util.Optional;
@@ -39,9 +41,15 @@
 
 /**
  * Abstract command element that matches values based on pattern.
+ *
+ * <p>Input without any regular expression syntax is matched as a plain,
+ * case-insensitive prefix through {@link #getChoicesStartingWith}, which
+ * implementations backed by a {@link PrefixIndex} can answer without
+ * visiting every choice.</p>
  */
 public abstract class PatternMatchingCommandElement extends CommandElement {
     private static final Text nullKeyArg = t("argument");
+    private static final String PATTERN_CHARACTERS = "\\^$.|?*+()[]{}";
 
     protected PatternMatchingCommandElement(@Nullable Text key) {
         super(key);
@@ -51,8 +59,7 @@ protected PatternMatchingCommandElement(@Nullable Text key) {
     @Override
     protected Object parseValue(CommandSource source, CommandArgs args) throws ArgumentParseException {
         final String unformattedPattern = args.next();
-        Pattern pattern = getFormattedPattern(unformattedPattern);
-        Iterable<String> filteredChoices = Iterables.filter(getChoices(source), element -> pattern.matcher(element).find());
+        Iterable<String> filteredChoices = getMatchingChoices(source, unformattedPattern);
         for (String el : filteredChoices) { // Match a single value
             if (el.equalsIgnoreCase(unformattedPattern)) {
                 return getValue(el);
@@ -61,7 +68,7 @@ protected Object parseValue(CommandSource source, CommandArgs args) throws Argum
         Iterable<Object> ret = Iterables.transform(filteredChoices, this::getValue);
 
         if (!ret.iterator().hasNext()) {
-            throw args.createError(t("No values matching pattern '%s' present for %s!", unformattedPattern, getKey() == null
+            throw args.createError(() -> t("No values matching pattern '%s' present for %s!", unformattedPattern, getKey() == null
                                                                                                             ? nullKeyArg : getKey()));
         }
         return ret;
@@ -69,12 +76,21 @@ protected Object parseValue(CommandSource source, CommandArgs args) throws Argum
 
     @Override
     public List<String> complete(CommandSource src, CommandArgs args, CommandContext context) {
-        Iterable<String> choices = getChoices(src);
         final Optional<String> nextArg = args.nextIfPresent();
         if (nextArg.isPresent()) {
-            choices = Iterables.filter(choices, input -> getFormattedPattern(nextArg.get()).matcher(input).find());
+            return ImmutableList.copyOf(getMatchingChoices(src, nextArg.get()));
+        }
+        return ImmutableList.copyOf(getChoices(src));
+    }
+
+    private Iterable<String> getMatchingChoices(CommandSource source, String input) {
+        for (int i = 0; i < input.length(); i++) {
+            if (PATTERN_CHARACTERS.indexOf(input.charAt(i)) != -1) {
+                final Pattern pattern = getFormattedPattern(input);
+                return Iterables.filter(getChoices(source), element -> pattern.matcher(element).find());
+            }
         }
-        return ImmutableList.copyOf(choices);
+        return getChoicesStartingWith(source, input);
     }
 
     private Pattern getFormattedPattern(String input) {
@@ -93,6 +109,22 @@ private Pattern getFormattedPattern(String input) {
      */
     protected abstract Iterable<String> getChoices(CommandSource source);
 
+    /**
+     * Gets the available choices for this command source that start with the
+     * given prefix (case-insensitive).
+     *
+     * <p>By default, this filters all {@link #getChoices(CommandSource)
+     * choices}. Implementations with large choice sets should override this
+     * to look the prefix up in an index, such as a {@link PrefixIndex}.</p>
+     *
+     * @param source The source requesting choices
+     * @param prefix The prefix of the choices
+     * @return the possible choices starting with the prefix
+     */
+    protected Iterable<String> getChoicesStartingWith(CommandSource source, String prefix) {
+        return Iterables.filter(getChoices(source), new StartsWithPredicate(prefix)::test);
+    }
+
     /**
      * Gets the value for a given choice. For any result in
      * {@link #getChoices(CommandSource)}, this must return a non-null value.
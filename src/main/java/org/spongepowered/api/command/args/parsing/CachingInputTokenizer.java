@@ -0,0 +1,56 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.command.args.parsing;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import org.spongepowered.api.command.args.ArgumentParseException;
+
+import java.util.List;
+
+class CachingInputTokenizer implements InputTokenizer {
+    private final InputTokenizer delegate;
+    private final Cache<String, List<SingleArg>> strict;
+    private final Cache<String, List<SingleArg>> lenient;
+
+    CachingInputTokenizer(InputTokenizer delegate, int maximumSize) {
+        this.delegate = delegate;
+        this.strict = CacheBuilder.newBuilder().maximumSize(maximumSize).build();
+        this.lenient = CacheBuilder.newBuilder().maximumSize(maximumSize).build();
+    }
+
+    @Override
+    public List<SingleArg> tokenize(String arguments, boolean lenient) throws ArgumentParseException {
+        final Cache<String, List<SingleArg>> cache = lenient ? this.lenient : this.strict;
+        List<SingleArg> ret = cache.getIfPresent(arguments);
+        if (ret == null) {
+            // Input that fails to tokenize is not cached, so the error is thrown again
+            ret = ImmutableList.copyOf(this.delegate.tokenize(arguments, lenient));
+            cache.put(arguments, ret);
+        }
+        return ret;
+    }
+}
@@ -61,4 +61,18 @@ public static InputTokenizer rawInput() {
         return RawStringInputTokenizer.INSTANCE;
     }
 
+    /**
+     * Returns an input tokenizer that remembers the tokens of recently
+     * tokenized input strings, delegating to the given tokenizer for input
+     * it has not seen. Useful for commands that are run or tab-completed
+     * with the same input very frequently.
+     *
+     * @param tokenizer The tokenizer to cache the results of
+     * @param maximumSize The maximum number of input strings to remember
+     * @return The appropriate tokenizer
+     */
+    public static InputTokenizer cached(InputTokenizer tokenizer, int maximumSize) {
+        return new CachingInputTokenizer(tokenizer, maximumSize);
+    }
+
 }
@@ -28,19 +28,16 @@
 import static org.spongepowered.api.util.SpongeApiTranslationHelper.t;
 import static org.spongepowered.api.command.CommandMessageFormatting.SPACE_TEXT;
 
-import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.ImmutableMultimap;
+import com.google.common.collect.ImmutableListMultimap;
 import com.google.common.collect.ImmutableSet;
-import com.google.common.collect.ListMultimap;
+import com.google.common.collect.ImmutableSortedSet;
 import com.google.common.collect.Multimap;
 import com.google.common.collect.Multimaps;
 import org.spongepowered.api.text.Text;
 import org.spongepowered.api.text.action.TextActions;
 import org.spongepowered.api.text.format.TextColors;
 import org.spongepowered.api.text.format.TextStyles;
-import org.spongepowered.api.util.GuavaCollectors;
-import org.spongepowered.api.util.StartsWithPredicate;
 import org.spongepowered.api.command.CommandCallable;
 import org.spongepowered.api.command.CommandException;
 import org.spongepowered.api.command.CommandMapping;
@@ -56,15 +53,25 @@
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
 
 /**
  * A simple implementation of a {@link Dispatcher}.
+ *
+ * <p>Registered commands are kept in an immutable snapshot that is replaced
+ * on every modification. Lookups, suggestions and command processing read
+ * the current snapshot without locking, so they may run concurrently from
+ * any number of threads; only modifications are synchronized.</p>
  */
 public final class SimpleDispatcher implements Dispatcher {
 
@@ -73,7 +80,7 @@ public final class SimpleDispatcher implements Dispatcher {
      */
     public static final Disambiguator FIRST_DISAMBIGUATOR = (source, aliasUsed, availableOptions) -> {
         for (CommandMapping mapping : availableOptions) {
-            if (mapping.getPrimaryAlias().toLowerCase().equals(aliasUsed.toLowerCase())) {
+            if (mapping.getPrimaryAlias().toLowerCase(Locale.ENGLISH).equals(aliasUsed.toLowerCase(Locale.ENGLISH))) {
                 return Optional.of(mapping);
             }
         }
@@ -81,7 +88,10 @@ public final class SimpleDispatcher implements Dispatcher {
     };
 
     private final Disambiguator disambiguatorFunc;
-    private final ListMultimap<String, CommandMapping> commands = ArrayListMultimap.create();
+    private volatile ImmutableListMultimap<String, CommandMapping> commands = ImmutableListMultimap.of();
+    // Sorted lower case aliases, used to complete aliases by prefix. Published
+    // after the commands, so readers must tolerate aliases without mappings.
+    private volatile ImmutableSortedSet<String> aliasIndex = ImmutableSortedSet.of();
 
     /**
      * Creates a basic new dispatcher.
@@ -171,9 +181,12 @@ public synchronized Optional<CommandMapping> register(CommandCallable callable,
             List<String> secondary = aliases.subList(1, aliases.size());
             CommandMapping mapping = new ImmutableCommandMapping(callable, primary, secondary);
 
+            ImmutableListMultimap.Builder<String, CommandMapping> builder = ImmutableListMultimap.builder();
+            builder.putAll(this.commands);
             for (String alias : aliases) {
-                this.commands.put(alias.toLowerCase(), mapping);
+                builder.put(alias.toLowerCase(Locale.ENGLISH), mapping);
             }
+            publish(builder.build());
 
             return Optional.of(mapping);
         } else {
@@ -188,7 +201,12 @@ public synchronized Optional<CommandMapping> register(CommandCallable callable,
      * @return The previous mapping associated with the alias, if one was found
      */
     public synchronized Collection<CommandMapping> remove(String alias) {
-        return this.commands.removeAll(alias.toLowerCase());
+        final String key = alias.toLowerCase(Locale.ENGLISH);
+        final List<CommandMapping> removed = this.commands.get(key);
+        if (!removed.isEmpty()) {
+            removeIf(entry -> entry.getKey().equals(key));
+        }
+        return removed;
     }
 
     /**
@@ -200,15 +218,12 @@ public synchronized Collection<CommandMapping> remove(String alias) {
     public synchronized boolean removeAll(Collection<?> aliases) {
         checkNotNull(aliases, "aliases");
 
-        boolean found = false;
-
+        final Set<String> keys = new HashSet<>();
         for (Object alias : aliases) {
-            if (!this.commands.removeAll(alias.toString().toLowerCase()).isEmpty()) {
-                found = true;
-            }
+            keys.add(alias.toString().toLowerCase(Locale.ENGLISH));
         }
 
-        return found;
+        return removeIf(entry -> keys.contains(entry.getKey()));
     }
 
     /**
@@ -222,15 +237,15 @@ public synchronized Optional<CommandMapping> removeMapping(CommandMapping mappin
 
         CommandMapping found = null;
 
-        Iterator<CommandMapping> it = this.commands.values().iterator();
-        while (it.hasNext()) {
-            CommandMapping current = it.next();
+        for (CommandMapping current : this.commands.values()) {
             if (current.equals(mapping)) {
-                it.remove();
                 found = current;
             }
         }
 
+        if (found != null) {
+            removeIf(entry -> entry.getValue().equals(mapping));
+        }
         return Optional.ofNullable(found);
     }
 
@@ -243,26 +258,46 @@ public synchronized Optional<CommandMapping> removeMapping(CommandMapping mappin
     public synchronized boolean removeMappings(Collection<?> mappings) {
         checkNotNull(mappings, "mappings");
 
+        return removeIf(entry -> mappings.contains(entry.getValue()));
+    }
+
+    /**
+     * Publishes a new snapshot without the entries matching the given
+     * predicate. Callers must hold the lock of this dispatcher.
+     *
+     * @param predicate The predicate entries to remove match
+     * @return Whether any entry was removed
+     */
+    private boolean removeIf(Predicate<Map.Entry<String, CommandMapping>> predicate) {
         boolean found = false;
 
-        Iterator<CommandMapping> it = this.commands.values().iterator();
-        while (it.hasNext()) {
-            if (mappings.contains(it.next())) {
-                it.remove();
+        ImmutableListMultimap.Builder<String, CommandMapping> builder = ImmutableListMultimap.builder();
+        for (Map.Entry<String, CommandMapping> entry : this.commands.entries()) {
+            if (predicate.test(entry)) {
                 found = true;
+            } else {
+                builder.put(entry);
             }
         }
 
+        if (found) {
+            publish(builder.build());
+        }
         return found;
     }
 
+    private void publish(ImmutableListMultimap<String, CommandMapping> commands) {
+        this.commands = commands;
+        this.aliasIndex = ImmutableSortedSet.copyOf(commands.keySet());
+    }
+
     @Override
-    public synchronized Set<CommandMapping> getCommands() {
+    public Set<CommandMapping> getCommands() {
         return ImmutableSet.copyOf(this.commands.values());
     }
 
     @Override
-    public synchronized Set<String> getPrimaryAliases() {
+    public Set<String> getPrimaryAliases() {
         Set<String> aliases = new HashSet<>();
 
         for (CommandMapping mapping : this.commands.values()) {
@@ -273,7 +308,7 @@ public synchronized Set<String> getPrimaryAliases() {
     }
 
     @Override
-    public synchronized Set<String> getAliases() {
+    public Set<String> getAliases() {
         Set<String> aliases = new HashSet<>();
 
         for (CommandMapping mapping : this.commands.values()) {
@@ -289,8 +324,8 @@ public Optional<CommandMapping> get(String alias) {
     }
 
     @Override
-    public synchronized Optional<CommandMapping> get(String alias, @Nullable CommandSource source) {
-        List<CommandMapping> results = this.commands.get(alias.toLowerCase());
+    public Optional<CommandMapping> get(String alias, @Nullable CommandSource source) {
+        List<CommandMapping> results = this.commands.get(alias.toLowerCase(Locale.ENGLISH));
         if (results.size() == 1) {
             return Optional.of(results.get(0));
         } else if (results.size() == 0) {
@@ -301,8 +336,8 @@ public synchronized Optional<CommandMapping> get(String alias, @Nullable Command
     }
 
     @Override
-    public synchronized boolean containsAlias(String alias) {
-        return this.commands.containsKey(alias.toLowerCase());
+    public boolean containsAlias(String alias) {
+        return this.commands.containsKey(alias.toLowerCase(Locale.ENGLISH));
     }
 
     @Override
@@ -334,12 +369,48 @@ public CommandResult process(CommandSource source, String commandLine) throws Co
         }
     }
 
+    @Override
+    public CompletableFuture<CommandResult> processAsync(CommandSource source, String commandLine) {
+        final String[] argSplit = commandLine.split(" ", 2);
+        Optional<CommandMapping> cmdOptional = get(argSplit[0], source);
+        final CompletableFuture<CommandResult> ret = new CompletableFuture<>();
+        if (!cmdOptional.isPresent()) {
+            ret.completeExceptionally(new CommandNotFoundException(t("commands.generic.notFound"), argSplit[0]));
+            return ret;
+        }
+        final String arguments = argSplit.length > 1 ? argSplit[1] : "";
+        cmdOptional.get().getCallable().processAsync(source, arguments).whenComplete((result, error) -> {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            if (cause == null) {
+                ret.complete(result);
+            } else if (cause instanceof CommandNotFoundException) {
+                ret.completeExceptionally(new CommandException(t("No such child command: %s", ((CommandNotFoundException) cause).getCommand())));
+            } else {
+                ret.completeExceptionally(cause);
+            }
+        });
+        return ret;
+    }
+
+    @Override
+    public CompletableFuture<List<String>> getSuggestionsAsync(CommandSource src, String arguments) {
+        final String[] argSplit = arguments.split(" ", 2);
+        if (argSplit.length == 1) {
+            return CompletableFuture.completedFuture(completeAlias(src, argSplit[0]));
+        }
+        Optional<CommandMapping> cmdOptional = get(argSplit[0], src);
+        if (!cmdOptional.isPresent()) {
+            return CompletableFuture.completedFuture(ImmutableList.of());
+        }
+        return cmdOptional.get().getCallable().getSuggestionsAsync(src, argSplit[1]);
+    }
+
     @Override
     public List<String> getSuggestions(CommandSource src, final String arguments) throws CommandException {
         final String[] argSplit = arguments.split(" ", 2);
         Optional<CommandMapping> cmdOptional = get(argSplit[0], src);
         if (argSplit.length == 1) {
-            return filterCommands(src).stream().filter(new StartsWithPredicate(argSplit[0])).collect(GuavaCollectors.toImmutableList());
+            return completeAlias(src, argSplit[0]);
         } else if (!cmdOptional.isPresent()) {
             return ImmutableList.of();
         }
@@ -387,6 +458,29 @@ public Optional<Text> getHelp(CommandSource source) {
         return Optional.of(build.build());
     }
 
+    /**
+     * Gets the aliases starting with the given prefix (case-insensitive) that
+     * the source has permission to use. Only the aliases matching the prefix
+     * are visited, regardless of the number of registered aliases.
+     */
+    private List<String> completeAlias(final CommandSource src, String prefix) {
+        final String lowerPrefix = prefix.toLowerCase(Locale.ENGLISH);
+        final ImmutableListMultimap<String, CommandMapping> commands = this.commands;
+        final ImmutableList.Builder<String> builder = ImmutableList.builder();
+        for (String alias : this.aliasIndex.tailSet(lowerPrefix)) {
+            if (!alias.startsWith(lowerPrefix)) {
+                break;
+            }
+            for (CommandMapping mapping : commands.get(alias)) {
+                if (mapping.getCallable().testPermission(src)) {
+                    builder.add(alias);
+                    break;
+                }
+            }
+        }
+        return builder.build();
+    }
+
     private Set<String> filterCommands(final CommandSource src) {
         return Multimaps.filterValues(this.commands, input -> input.getCallable().testPermission(src)).keys().elementSet();
     }
@@ -396,7 +490,7 @@ private Set<String> filterCommands(final CommandSource src) {
      *
      * @return The number of aliases
      */
-    public synchronized int size() {
+    public int size() {
         return this.commands.size();
     }
 
@@ -423,12 +517,12 @@ public Text getUsage(final CommandSource source) {
     }
 
     @Override
-    public synchronized Set<CommandMapping> getAll(String alias) {
+    public Set<CommandMapping> getAll(String alias) {
         return ImmutableSet.copyOf(this.commands.get(alias));
     }
 
     @Override
     public Multimap<String, CommandMapping> getAll() {
-        return ImmutableMultimap.copyOf(this.commands);
+        return this.commands;
     }
 }
@@ -0,0 +1,94 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.command.spec;
+
+import static org.spongepowered.api.util.SpongeApiTranslationHelper.t;
+
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.command.CommandException;
+import org.spongepowered.api.command.CommandMessageFormatting;
+import org.spongepowered.api.command.CommandResult;
+import org.spongepowered.api.command.CommandSource;
+import org.spongepowered.api.command.args.CommandContext;
+import org.spongepowered.api.text.Text;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * A {@link CommandExecutor} that completes its work asynchronously, such as
+ * commands that query a database or the profile service.
+ *
+ * <p>{@link #executeAsync(CommandSource, CommandContext)} is called on the
+ * thread processing the command, usually the main thread, after arguments
+ * have been parsed. It should hand blocking work off to another thread, for
+ * example through
+ * {@link org.spongepowered.api.scheduler.Scheduler#createAsyncExecutor(Object)},
+ * and schedule any access to the world back onto the main thread through
+ * {@link org.spongepowered.api.scheduler.Scheduler#createSyncExecutor(Object)}.</p>
+ */
+@FunctionalInterface
+public interface AsyncCommandExecutor extends CommandExecutor {
+
+    /**
+     * Callback for the asynchronous execution of a command.
+     *
+     * @param src The commander who is executing this command
+     * @param args The parsed command arguments for this command
+     * @return the future result of executing this command, completed
+     *         exceptionally with a {@link CommandException} if a user-facing
+     *         error occurs
+     */
+    CompletableFuture<CommandResult> executeAsync(CommandSource src, CommandContext args);
+
+    /**
+     * Starts the asynchronous execution of a command without waiting for it
+     * to complete, for callers that are not aware of asynchronous commands.
+     * User-facing errors are sent to the source once the execution fails,
+     * other errors are logged to the logger of the implementation and
+     * reported to the source as a generic error.
+     *
+     * @param src The commander who is executing this command
+     * @param args The parsed command arguments for this command
+     * @return An empty result, as the real result is not yet known
+     */
+    @Override
+    default CommandResult execute(CommandSource src, CommandContext args) {
+        executeAsync(src, args).whenComplete((result, error) -> {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            if (cause instanceof CommandException) {
+                Text text = ((CommandException) cause).getText();
+                if (text != null) {
+                    src.sendMessage(CommandMessageFormatting.error(text));
+                }
+            } else if (cause != null) {
+                Sponge.getPlatform().getImplementation().getLogger().error("Error occurred while executing command for " + src.getName(), cause);
+                src.sendMessage(CommandMessageFormatting.error(t("An error occurred while executing this command")));
+            }
+        });
+        return CommandResult.empty();
+    }
+
+}
@@ -46,11 +46,13 @@
 import org.spongepowered.api.command.args.GenericArguments;
 import org.spongepowered.api.command.args.parsing.InputTokenizer;
 import org.spongepowered.api.command.args.parsing.InputTokenizers;
+import org.spongepowered.api.util.Functional;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import javax.annotation.Nullable;
 
@@ -285,7 +287,7 @@ public void populateContext(CommandSource source, CommandArgs args, CommandConte
         this.args.parse(source, args, context);
         if (args.hasNext()) {
             args.next();
-            throw args.createError(t("Too many arguments!"));
+            throw args.createError(() -> t("Too many arguments!"));
         }
     }
 
@@ -332,9 +334,37 @@ public CommandResult process(CommandSource source, String arguments) throws Comm
         return getExecutor().execute(source, context);
     }
 
+    /**
+     * Process this command, parsing its arguments on the calling thread. If
+     * the executor of this command is an {@link AsyncCommandExecutor}, its
+     * asynchronous result is returned, otherwise the executor is called on
+     * the calling thread.
+     *
+     * @param source The caller of the command
+     * @param arguments The raw arguments for this command
+     * @return The future result of the command being processed
+     */
+    @Override
+    public CompletableFuture<CommandResult> processAsync(CommandSource source, String arguments) {
+        return Functional.failableFuture(() -> {
+            checkPermission(source);
+            final CommandArgs args = new CommandArgs(arguments, getInputTokenizer().tokenize(arguments, false));
+            final CommandContext context = new CommandContext();
+            this.populateContext(source, args, context);
+            return context;
+        }).thenCompose(context -> {
+            if (this.executor instanceof AsyncCommandExecutor) {
+                return ((AsyncCommandExecutor) this.executor).executeAsync(source, context);
+            }
+            return Functional.failableFuture(() -> this.executor.execute(source, context));
+        });
+    }
+
     @Override
     public List<String> getSuggestions(CommandSource source, String arguments) throws CommandException {
         CommandArgs args = new CommandArgs(arguments, getInputTokenizer().tokenize(arguments, true));
+        // Completion parses every element on trial and falls back to completing the one that fails
+        args.startSpeculation();
         return complete(source, args, new CommandContext());
     }
 
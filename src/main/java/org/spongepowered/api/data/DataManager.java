@@ -29,7 +29,9 @@
 import org.spongepowered.api.data.manipulator.ImmutableDataManipulator;
 import org.spongepowered.api.data.manipulator.ImmutableDataManipulatorBuilder;
 import org.spongepowered.api.util.persistence.DataBuilder;
+import org.spongepowered.api.util.persistence.DataBuilderHandle;
 import org.spongepowered.api.util.persistence.DataContentUpdater;
+import org.spongepowered.api.util.persistence.DataContentUpdaterChain;
 
 import java.util.Optional;
 
@@ -78,6 +80,10 @@ public interface DataManager {
      * great or a {@link DataContentUpdater} has not been registered to cover
      * the complete jump, {@link Optional#empty()} may be returned.
      *
+     * <p>The returned updater should be a {@link DataContentUpdaterChain}
+     * composed once per version jump, so that repeated upgrades do not copy
+     * the content for every version step.</p>
+     *
      * @param clazz The data serializable class
      * @param fromVersion The version converting from
      * @param toVersion The version converting to
@@ -100,6 +106,20 @@ public interface DataManager {
      */
     <T extends DataSerializable> Optional<DataBuilder<T>> getBuilder(Class<T> clazz);
 
+    /**
+     * Gets a {@link DataBuilderHandle} for the desired
+     * {@link DataSerializable} class. The handle resolves the
+     * {@link DataBuilder} once and may be cached by callers deserializing
+     * many instances of the same class.
+     *
+     * @param clazz The class of the data serializable
+     * @param <T> The type of data serializable
+     * @return The builder handle
+     */
+    default <T extends DataSerializable> DataBuilderHandle<T> getBuilderHandle(Class<T> clazz) {
+        return DataBuilderHandle.of(this, clazz);
+    }
+
     /**
      * Attempts to deserialize an instance of the {@link DataSerializable} from
      * the provided {@link DataView}. If there is no {@link DataBuilder}
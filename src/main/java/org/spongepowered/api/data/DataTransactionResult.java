@@ -42,6 +42,9 @@
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
 
 /**
  * Represents a transaction taking place where a {@link DataHolder} is
@@ -76,6 +79,26 @@ public static DataTransactionResult successNoData() {
         return SUCCESS_NODATA;
     }
 
+    /**
+     * Creates a new successful {@link DataTransactionResult} whose successful
+     * and replaced {@link ImmutableValue}s are only created when
+     * {@link #getSuccessfulData()} or {@link #getReplacedData()} is first
+     * called. This avoids creating immutable values and lists for the common
+     * case of a caller ignoring the result of an offer.
+     *
+     * <p>Each supplier is called at most once, and never if the data it
+     * provides is not requested.</p>
+     *
+     * @param successful The supplier of the successfully added value
+     * @param replaced The supplier of the replaced value, or {@code null} if
+     *        no value was replaced
+     * @return The new data transaction result
+     */
+    public static DataTransactionResult lazySuccessResult(final Supplier<? extends ImmutableValue<?>> successful,
+            @Nullable final Supplier<? extends ImmutableValue<?>> replaced) {
+        return new DataTransactionResult(checkNotNull(successful, "successful"), replaced);
+    }
+
     /**
      * Creates a new {@link DataTransactionResult} with the provided
      * {@link ImmutableValue} being the successful addition. The result type is
@@ -248,8 +271,24 @@ public enum Type {
 
     private final Type type;
     private final ImmutableList<ImmutableValue<?>> rejected;
-    private final ImmutableList<ImmutableValue<?>> replaced;
-    private final ImmutableList<ImmutableValue<?>> success;
+    // The replaced and successful lists of lazy results are only created
+    // when first requested, the suppliers are cleared afterwards
+    @Nullable private volatile ImmutableList<ImmutableValue<?>> replaced;
+    @Nullable private volatile ImmutableList<ImmutableValue<?>> success;
+    @Nullable private Supplier<? extends ImmutableValue<?>> replacedSupplier;
+    @Nullable private Supplier<? extends ImmutableValue<?>> successSupplier;
+
+    private DataTransactionResult(final Supplier<? extends ImmutableValue<?>> successful,
+            @Nullable final Supplier<? extends ImmutableValue<?>> replaced) {
+        this.type = Type.SUCCESS;
+        this.rejected = ImmutableList.of();
+        this.successSupplier = successful;
+        if (replaced != null) {
+            this.replacedSupplier = replaced;
+        } else {
+            this.replaced = ImmutableList.of();
+        }
+    }
 
     private DataTransactionResult(final Builder builder) {
         this.type = builder.resultType;
@@ -296,7 +335,17 @@ public boolean isSuccessful() {
      * @return An immutable list of the values successfully offered
      */
     public List<ImmutableValue<?>> getSuccessfulData() {
-        return this.success;
+        ImmutableList<ImmutableValue<?>> success = this.success;
+        if (success == null) {
+            synchronized (this) {
+                success = this.success;
+                if (success == null) {
+                    this.success = success = ImmutableList.<ImmutableValue<?>>of(checkNotNull(this.successSupplier.get()));
+                    this.successSupplier = null;
+                }
+            }
+        }
+        return success;
     }
 
     /**
@@ -317,7 +366,17 @@ public List<ImmutableValue<?>> getRejectedData() {
      * @return Any data that was replaced
      */
     public List<ImmutableValue<?>> getReplacedData() {
-        return this.replaced;
+        ImmutableList<ImmutableValue<?>> replaced = this.replaced;
+        if (replaced == null) {
+            synchronized (this) {
+                replaced = this.replaced;
+                if (replaced == null) {
+                    this.replaced = replaced = ImmutableList.<ImmutableValue<?>>of(checkNotNull(this.replacedSupplier.get()));
+                    this.replacedSupplier = null;
+                }
+            }
+        }
+        return replaced;
     }
 
     @Override
@@ -325,8 +384,9 @@ public String toString() {
         return Objects.toStringHelper(this)
                 .add("resultType", this.type)
                 .add("rejectedData", this.rejected)
-                .add("replacedData", this.replaced)
-                .add("successfulData", this.success)
+                // Lazy lists are not created just to be printed
+                .add("replacedData", this.replaced == null ? "<lazy>" : this.replaced)
+                .add("successfulData", this.success == null ? "<lazy>" : this.success)
                 .toString();
     }
 
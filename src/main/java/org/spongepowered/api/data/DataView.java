@@ -29,6 +29,7 @@
 import org.spongepowered.api.data.key.Key;
 import org.spongepowered.api.data.value.BaseValue;
 import org.spongepowered.api.util.persistence.DataBuilder;
+import org.spongepowered.api.util.persistence.DataBuilderHandle;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -498,6 +499,55 @@ default boolean contains(Key<?> key, Key<?>... keys) {
      */
     <T extends DataSerializable> Optional<List<T>> getSerializableList(DataQuery path, Class<T> clazz);
 
+    /**
+     * Gets the {@link DataSerializable} object by path using the given
+     * {@link DataBuilderHandle}, if available.
+     *
+     * <p>Unlike {@link #getSerializable(DataQuery, Class)}, this does not
+     * resolve the {@link DataBuilder} from the {@link DataManager} per
+     * call.</p>
+     *
+     * @param <T> The type of {@link DataSerializable} object
+     * @param path The path of the value to get
+     * @param handle The handle of the builder to use
+     * @return The deserialized object, if available
+     */
+    default <T extends DataSerializable> Optional<T> getSerializable(DataQuery path, DataBuilderHandle<T> handle) {
+        checkNotNull(handle, "handle");
+        final Optional<DataView> view = getView(path);
+        return view.isPresent() ? handle.build(view.get()) : Optional.empty();
+    }
+
+    /**
+     * Gets the {@link List} of {@link DataSerializable} by path using the
+     * given {@link DataBuilderHandle}, if available.
+     *
+     * <p>Unlike {@link #getSerializableList(DataQuery, Class)}, this does not
+     * resolve the {@link DataBuilder} from the {@link DataManager} per call,
+     * and implementations should build from the stored views directly
+     * rather than collecting them into an intermediate list first.</p>
+     *
+     * @param <T> The type of {@link DataSerializable} object
+     * @param path The path of the list value to get
+     * @param handle The handle of the builder to use
+     * @return The deserialized objects in a list, if available
+     */
+    default <T extends DataSerializable> Optional<List<T>> getSerializableList(DataQuery path, DataBuilderHandle<T> handle) {
+        checkNotNull(handle, "handle");
+        final Optional<List<DataView>> views = getViewList(path);
+        if (!views.isPresent() || !handle.getBuilder().isPresent()) {
+            return Optional.empty();
+        }
+        final List<T> list = new ArrayList<>(views.get().size());
+        for (DataView view : views.get()) {
+            final Optional<T> element = handle.build(view);
+            if (element.isPresent()) {
+                list.add(element.get());
+            }
+        }
+        return Optional.of(list);
+    }
+
     /**
      * Copies this {@link DataView} and all of it's contents into a new
      * {@link DataContainer}.
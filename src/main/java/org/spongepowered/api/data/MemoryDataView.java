@@ -41,6 +41,7 @@
 import org.spongepowered.api.data.value.BaseValue;
 import org.spongepowered.api.util.Coerce;
 import org.spongepowered.api.util.persistence.DataBuilder;
+import org.spongepowered.api.util.persistence.DataBuilderHandle;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -804,7 +805,7 @@ public <T extends DataSerializable> Optional<List<T>> getSerializableList(DataQu
         checkNotNull(path, "path");
         checkNotNull(clazz, "clazz");
         DataManager manager = Sponge.getDataManager();
-        Optional<List<DataView>> optional = getViewList(path);
+        Optional<List<?>> optional = getUnsafeList(path);
 
         if (!optional.isPresent()) {
             return Optional.empty();
@@ -814,15 +815,40 @@ public <T extends DataSerializable> Optional<List<T>> getSerializableList(DataQu
         if (!builderOptional.isPresent()) {
             return Optional.empty();
         } else {
-            List<T> newList = Lists.newArrayList();
-            for (DataView view : optional.get()) {
-                Optional<T> element = builderOptional.get().build(view);
+            return Optional.of(buildList(optional.get(), builderOptional.get()));
+        }
+    }
+
+    @Override
+    public <T extends DataSerializable> Optional<List<T>> getSerializableList(DataQuery path, DataBuilderHandle<T> handle) {
+        checkNotNull(path, "path");
+        checkNotNull(handle, "handle");
+        Optional<List<?>> optional = getUnsafeList(path);
+
+        if (!optional.isPresent()) {
+            return Optional.empty();
+        }
+
+        Optional<DataBuilder<T>> builderOptional = handle.getBuilder();
+        if (!builderOptional.isPresent()) {
+            return Optional.empty();
+        } else {
+            return Optional.of(buildList(optional.get(), builderOptional.get()));
+        }
+    }
+
+    // Builds straight from the stored views, without collecting them first
+    private static <T extends DataSerializable> List<T> buildList(List<?> list, DataBuilder<T> builder) {
+        List<T> newList = Lists.newArrayListWithCapacity(list.size());
+        for (Object object : list) {
+            if (object instanceof DataView) {
+                Optional<T> element = builder.build((DataView) object);
                 if (element.isPresent()) {
                     newList.add(element.get());
                 }
             }
-            return Optional.of(newList);
         }
+        return newList;
     }
 
     @Override
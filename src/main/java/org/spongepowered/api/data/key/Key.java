@@ -56,4 +56,21 @@
      */
     DataQuery getQuery();
 
+    /**
+     * Gets the dense ordinal of this {@link Key}. Ordinals are assigned
+     * starting at 0, in the order keys are created by the {@link KeyFactory}
+     * or first asked for their ordinal, and do not change for the lifetime of
+     * the key. They are not stable across restarts and must not be
+     * persisted. A key that has an ordinal is kept for the lifetime of the
+     * game.
+     *
+     * <p>Ordinals allow storing values in arrays indexed by key, see
+     * {@link KeyedValueArray}.</p>
+     *
+     * @return The ordinal of this key
+     */
+    default int getOrdinal() {
+        return KeyOrdinals.get(this);
+    }
+
 }
@@ -46,6 +46,61 @@ public final class KeyFactory {
 
     private KeyFactory() {}
 
+    /**
+     * The {@link Key} implementation created by this factory. The hash code
+     * and description are computed once, and the ordinal is assigned on
+     * creation, see {@link #create(Class, DataQuery, int, String)}.
+     */
+    private static final class FactoryKey<V extends BaseValue<?>> implements Key<V> {
+
+        private final Class<V> valueClass;
+        private final DataQuery query;
+        private final int hashCode;
+        private final String string;
+        private final int ordinal;
+
+        FactoryKey(Class<V> valueClass, DataQuery query, int hashCode, String string, int ordinal) {
+            this.valueClass = valueClass;
+            this.query = query;
+            this.hashCode = hashCode;
+            this.string = string;
+            this.ordinal = ordinal;
+        }
+
+        @Override
+        public Class<V> getValueClass() {
+            return this.valueClass;
+        }
+
+        @Override
+        public DataQuery getQuery() {
+            return this.query;
+        }
+
+        @Override
+        public int getOrdinal() {
+            return this.ordinal;
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+
+        @Override
+        public String toString() {
+            return this.string;
+        }
+
+    }
+
+    private static <V extends BaseValue<?>> Key<V> create(Class<V> valueClass, DataQuery query, int hashCode, String string) {
+        // The key is only registered once fully constructed, so it is never published early
+        final FactoryKey<V> key = new FactoryKey<>(valueClass, query, hashCode, string, KeyOrdinals.next());
+        KeyOrdinals.register(key.ordinal, key);
+        return key;
+    }
+
     /**
      * Creates a new {@link Key} with the provided <code>E</code> element
      * class and <code>V</code> {@link Value} class along with the provided
@@ -53,7 +108,10 @@ private KeyFactory() {}
      *
      * <p>Note that {@link Key}s are not registered, but it is recommended
      * to avoid generating {@link Key}s of potentially conflicting
-     * {@link DataQuery}(s).</p>
+     * {@link DataQuery}(s). Each created key is assigned the next
+     * {@link Key#getOrdinal() ordinal} and is kept for the lifetime of the
+     * game, so keys should be created once and stored, for example in
+     * static fields.</p>
      *
      * @param elementClass The element class
      * @param valueClass The value class
@@ -65,28 +123,8 @@ private KeyFactory() {}
      */
     public static <E, T extends BaseValue, V extends BaseValue<E>> Key<V> makeSingleKey(final Class<E> elementClass, final Class<T> valueClass,
             final DataQuery query) {
-        return new Key<V>() {
-            @SuppressWarnings("rawtypes")
-            @Override
-            public Class<V> getValueClass() {
-                return (Class<V>) (Class) valueClass;
-            }
-
-            @Override
-            public DataQuery getQuery() {
-                return query;
-            }
-
-            @Override
-            public int hashCode() {
-                return Objects.hashCode(elementClass, valueClass, query);
-            }
-
-            @Override
-            public String toString() {
-                return "Key{Value:" + valueClass.getSimpleName() + "<" + elementClass.getSimpleName() + ">, Query: " + query.toString() + "}";
-            }
-        };
+        return create((Class<V>) (Class) valueClass, query, Objects.hashCode(elementClass, valueClass, query),
+                "Key{Value:" + valueClass.getSimpleName() + "<" + elementClass.getSimpleName() + ">, Query: " + query.toString() + "}");
     }
 
     /**
@@ -99,28 +137,8 @@ public String toString() {
      * @return The generated key
      */
     public static <E> Key<ListValue<E>> makeListKey(final Class<E> elementClass, final DataQuery query) {
-        return new Key<ListValue<E>>() {
-            @SuppressWarnings("rawtypes")
-            @Override
-            public Class<ListValue<E>> getValueClass() {
-                return (Class<ListValue<E>>) (Class) ListValue.class;
-            }
-
-            @Override
-            public DataQuery getQuery() {
-                return query;
-            }
-
-            @Override
-            public int hashCode() {
-                return Objects.hashCode(elementClass, query);
-            }
-
-            @Override
-            public String toString() {
-                return "Key{Value:" + "ListValue<" + elementClass.getSimpleName() + ">, Query: " + query.toString() + "}";
-            }
-        };
+        return create((Class<ListValue<E>>) (Class) ListValue.class, query, Objects.hashCode(elementClass, query),
+                "Key{Value:" + "ListValue<" + elementClass.getSimpleName() + ">, Query: " + query.toString() + "}");
     }
 
     /**
@@ -133,28 +151,8 @@ public String toString() {
      * @return The generated key
      */
     public static <E> Key<SetValue<E>> makeSetKey(final Class<E> elementClass, final DataQuery query) {
-        return new Key<SetValue<E>>() {
-            @SuppressWarnings("rawtypes")
-            @Override
-            public Class<SetValue<E>> getValueClass() {
-                return (Class<SetValue<E>>) (Class) SetValue.class;
-            }
-
-            @Override
-            public DataQuery getQuery() {
-                return query;
-            }
-
-            @Override
-            public int hashCode() {
-                return Objects.hashCode(elementClass, query);
-            }
-
-            @Override
-            public String toString() {
-                return "Key{Value:" + "SetValue<" + elementClass.getSimpleName() + ">, Query: " + query.toString() + "}";
-            }
-        };
+        return create((Class<SetValue<E>>) (Class) SetValue.class, query, Objects.hashCode(elementClass, query),
+                "Key{Value:" + "SetValue<" + elementClass.getSimpleName() + ">, Query: " + query.toString() + "}");
     }
 
     /**
@@ -170,29 +168,9 @@ public String toString() {
      * @return The generated key
      */
     public static <K, V> Key<MapValue<K, V>> makeMapKey(final Class<K> keyClass, final Class<V> valueclass, final DataQuery query) {
-        return new Key<MapValue<K, V>>() {
-            @SuppressWarnings("rawtypes")
-            @Override
-            public Class<MapValue<K, V>> getValueClass() {
-                return (Class<MapValue<K, V>>) (Class) MapValue.class;
-            }
-
-            @Override
-            public DataQuery getQuery() {
-                return query;
-            }
-
-            @Override
-            public int hashCode() {
-                return Objects.hashCode(keyClass, valueclass, query);
-            }
-
-            @Override
-            public String toString() {
-                return "Key{Value:" + "MapValue<" + keyClass.getSimpleName() + "," + valueclass.getSimpleName() + ">, Query: " + query.toString()
-                       + "}";
-            }
-        };
+        return create((Class<MapValue<K, V>>) (Class) MapValue.class, query, Objects.hashCode(keyClass, valueclass, query),
+                "Key{Value:" + "MapValue<" + keyClass.getSimpleName() + "," + valueclass.getSimpleName() + ">, Query: " + query.toString()
+                + "}");
     }
 
     /**
@@ -206,27 +184,8 @@ public String toString() {
      * @return The generated key
      */
     public static <E> Key<OptionalValue<E>> makeOptionalKey(final Class<E> elementClass, final DataQuery query) {
-        return new Key<OptionalValue<E>>() {
-            @Override
-            public Class<OptionalValue<E>> getValueClass() {
-                return (Class<OptionalValue<E>>) (Class<?>) OptionalValue.class;
-            }
-
-            @Override
-            public DataQuery getQuery() {
-                return query;
-            }
-
-            @Override
-            public int hashCode() {
-                return Objects.hashCode(elementClass, query);
-            }
-
-            @Override
-            public String toString() {
-                return "Key{Value:" + "OptionalValue<" + elementClass.getSimpleName() + ">, Query: " + query.toString() + "}";
-            }
-        };
+        return create((Class<OptionalValue<E>>) (Class<?>) OptionalValue.class, query, Objects.hashCode(elementClass, query),
+                "Key{Value:" + "OptionalValue<" + elementClass.getSimpleName() + ">, Query: " + query.toString() + "}");
     }
 
 }
@@ -0,0 +1,91 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.key;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Assigns dense ordinals to {@link Key}s, starting at 0 in the order the
+ * keys are created or first asked for their ordinal.
+ *
+ * <p>Every key with an ordinal is held strongly for the lifetime of the
+ * game, so that it can be found again by its ordinal. Keys are permanent,
+ * like registered catalog types, and should be created once and kept rather
+ * than created repeatedly.</p>
+ */
+final class KeyOrdinals {
+
+    private static final Map<Key<?>, Integer> ordinals = new ConcurrentHashMap<>();
+    private static volatile Key<?>[] keys = new Key<?>[512];
+    private static volatile int count;
+
+    static int get(Key<?> key) {
+        Integer ordinal = ordinals.get(key);
+        if (ordinal == null) {
+            synchronized (KeyOrdinals.class) {
+                ordinal = ordinals.get(key);
+                if (ordinal == null) {
+                    ordinal = next();
+                    register(ordinal, key);
+                    ordinals.put(key, ordinal);
+                }
+            }
+        }
+        return ordinal;
+    }
+
+    /**
+     * Reserves the next ordinal. The key holding it must be
+     * {@link #register(int, Key) registered} once it is fully constructed.
+     *
+     * @return The reserved ordinal
+     */
+    static synchronized int next() {
+        return count++;
+    }
+
+    static synchronized void register(int ordinal, Key<?> key) {
+        Key<?>[] keys = KeyOrdinals.keys;
+        if (ordinal >= keys.length) {
+            keys = Arrays.copyOf(keys, Math.max(keys.length * 2, ordinal + 1));
+        }
+        keys[ordinal] = key;
+        KeyOrdinals.keys = keys;
+    }
+
+    static Key<?> byOrdinal(int ordinal) {
+        return keys[ordinal];
+    }
+
+    static int count() {
+        return count;
+    }
+
+    private KeyOrdinals() {
+    }
+
+}
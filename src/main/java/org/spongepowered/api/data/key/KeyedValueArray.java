@@ -0,0 +1,212 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.key;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.Objects;
+import com.google.common.collect.ImmutableSet;
+import org.spongepowered.api.data.value.BaseValue;
+import org.spongepowered.api.data.value.ValueContainer;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+/**
+ * A storage of values indexed by the {@link Key#getOrdinal() ordinal} of
+ * their {@link Key}, for use by implementations of {@link ValueContainer}.
+ * Getting and setting a value is a single array access, instead of a lookup
+ * in a map keyed by {@link Key}.
+ *
+ * <p>The array grows to the number of keys known when a value is first set.
+ * Like data manipulators, a {@link KeyedValueArray} is not thread-safe.</p>
+ */
+public final class KeyedValueArray {
+
+    private static final Object[] EMPTY = new Object[0];
+
+    private Object[] values;
+    private int size;
+
+    /**
+     * Creates a new, empty {@link KeyedValueArray}.
+     */
+    public KeyedValueArray() {
+        this.values = EMPTY;
+    }
+
+    private KeyedValueArray(Object[] values, int size) {
+        this.values = values;
+        this.size = size;
+    }
+
+    /**
+     * Gets whether a value is stored for the given {@link Key}.
+     *
+     * @param key The key
+     * @return True if a value is stored
+     */
+    public boolean contains(Key<?> key) {
+        final int ordinal = key.getOrdinal();
+        return ordinal < this.values.length && this.values[ordinal] != null;
+    }
+
+    /**
+     * Gets the value stored for the given {@link Key}.
+     *
+     * @param key The key
+     * @param <E> The type of value
+     * @return The value, if present
+     */
+    public <E> Optional<E> get(Key<? extends BaseValue<E>> key) {
+        return Optional.ofNullable(getOrNull(key));
+    }
+
+    /**
+     * Gets the value stored for the given {@link Key}, or {@code null} if
+     * none is stored.
+     *
+     * @param key The key
+     * @param <E> The type of value
+     * @return The value, or null
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <E> E getOrNull(Key<? extends BaseValue<E>> key) {
+        final int ordinal = key.getOrdinal();
+        return ordinal < this.values.length ? (E) this.values[ordinal] : null;
+    }
+
+    /**
+     * Stores the value for the given {@link Key}, replacing any previous
+     * value.
+     *
+     * @param key The key
+     * @param value The value
+     * @param <E> The type of value
+     * @return The previous value, if present
+     */
+    @SuppressWarnings("unchecked")
+    public <E> Optional<E> set(Key<? extends BaseValue<E>> key, E value) {
+        checkNotNull(value, "value");
+        final int ordinal = key.getOrdinal();
+        if (ordinal >= this.values.length) {
+            this.values = Arrays.copyOf(this.values, Math.max(ordinal + 1, KeyOrdinals.count()));
+        }
+        final E previous = (E) this.values[ordinal];
+        this.values[ordinal] = value;
+        if (previous == null) {
+            this.size++;
+        }
+        return Optional.ofNullable(previous);
+    }
+
+    /**
+     * Removes the value stored for the given {@link Key}.
+     *
+     * @param key The key
+     * @param <E> The type of value
+     * @return The removed value, if present
+     */
+    @SuppressWarnings("unchecked")
+    public <E> Optional<E> remove(Key<? extends BaseValue<E>> key) {
+        final int ordinal = key.getOrdinal();
+        if (ordinal >= this.values.length) {
+            return Optional.empty();
+        }
+        final E previous = (E) this.values[ordinal];
+        if (previous != null) {
+            this.values[ordinal] = null;
+            this.size--;
+        }
+        return Optional.ofNullable(previous);
+    }
+
+    /**
+     * Gets the number of stored values.
+     *
+     * @return The number of values
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Gets whether no values are stored.
+     *
+     * @return True if empty
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Gets the {@link Key}s values are stored for, in ordinal order.
+     *
+     * @return The keys
+     */
+    public Set<Key<?>> getKeys() {
+        final ImmutableSet.Builder<Key<?>> keys = ImmutableSet.builder();
+        for (int i = 0; i < this.values.length; i++) {
+            if (this.values[i] != null) {
+                keys.add(KeyOrdinals.byOrdinal(i));
+            }
+        }
+        return keys.build();
+    }
+
+    /**
+     * Removes all stored values.
+     */
+    public void clear() {
+        Arrays.fill(this.values, null);
+        this.size = 0;
+    }
+
+    /**
+     * Creates a copy of this {@link KeyedValueArray}. The values themselves
+     * are not copied.
+     *
+     * @return The copy
+     */
+    public KeyedValueArray copy() {
+        return new KeyedValueArray(this.values.length == 0 ? EMPTY : this.values.clone(), this.size);
+    }
+
+    @Override
+    public String toString() {
+        final Objects.ToStringHelper helper = Objects.toStringHelper(this);
+        for (int i = 0; i < this.values.length; i++) {
+            if (this.values[i] != null) {
+                helper.add(KeyOrdinals.byOrdinal(i).getQuery().toString(), this.values[i]);
+            }
+        }
+        return helper.toString();
+    }
+
+}
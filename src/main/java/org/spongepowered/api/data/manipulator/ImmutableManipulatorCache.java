@@ -0,0 +1,86 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.manipulator;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.MapMaker;
+import org.spongepowered.api.data.manipulator.immutable.ImmutableVariantData;
+import org.spongepowered.api.data.value.immutable.ImmutableValueCache;
+
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * An optional helper for implementations to share a single
+ * {@link ImmutableDataManipulator} instance per class and value pair from a
+ * small, bounded domain. This suits manipulators that are effectively finite
+ * sets of values, such as {@link ImmutableVariantData} and the block
+ * manipulators describing axes, colors, slab or stair types, which are
+ * requested for every block state and snapshot.
+ *
+ * <p>Manipulators are only shared when they are obtained through
+ * {@link #getOrCreate(Class, Object, Supplier)}; constructing a manipulator
+ * directly always creates a new instance.</p>
+ *
+ * <p>Values are cached under the same rules as
+ * {@link ImmutableValueCache#isCacheable(Object)}, other values always get a
+ * new manipulator.</p>
+ *
+ * <p>Shared manipulators are weakly held, so a manipulator that is no longer
+ * used anywhere may be replaced by a new instance on the next request.</p>
+ */
+public final class ImmutableManipulatorCache {
+
+    // Manipulators are weakly held and classes are weak keys, so unused
+    // manipulators and the classes of unloaded plugins are not kept forever
+    private static final ConcurrentMap<Class<?>, ConcurrentMap<Object, ImmutableDataManipulator<?, ?>>> cache =
+            new MapMaker().weakKeys().makeMap();
+
+    /**
+     * Gets the shared manipulator of the given class holding the given
+     * value, creating it with the given factory if it is not cached yet.
+     *
+     * @param manipulatorClass The class of the immutable manipulator
+     * @param value The value held by the manipulator
+     * @param factory The factory creating the manipulator
+     * @param <I> The type of immutable manipulator
+     * @return The shared or newly created manipulator
+     */
+    public static <I extends ImmutableDataManipulator<I, ?>> I getOrCreate(Class<I> manipulatorClass, Object value,
+            Supplier<? extends I> factory) {
+        checkNotNull(manipulatorClass, "manipulatorClass");
+        checkNotNull(factory, "factory");
+        if (!ImmutableValueCache.isCacheable(value)) {
+            return factory.get();
+        }
+        return manipulatorClass.cast(cache.computeIfAbsent(manipulatorClass, k -> new MapMaker().weakValues().makeMap())
+                .computeIfAbsent(value, k -> checkNotNull(factory.get(), "manipulator")));
+    }
+
+    private ImmutableManipulatorCache() {
+    }
+
+}
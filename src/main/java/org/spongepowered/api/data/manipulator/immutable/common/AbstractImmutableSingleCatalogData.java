@@ -55,8 +55,7 @@ protected AbstractImmutableSingleCatalogData(E value, E defaultValue, Key<? exte
         super(value, usedKey);
         this.defaultValue = checkNotNull(defaultValue, "The default value was null! This is unacceptable! Maybe the value was not registered?");
         this.immutableValue = Sponge.getRegistry().getValueFactory()
-                .createValue((Key<Value<E>>) (Key) this.usedKey, this.defaultValue, this.value)
-                .asImmutable();
+                .createImmutableValue((Key<Value<E>>) (Key) this.usedKey, this.value, this.defaultValue);
 
     }
 
@@ -50,7 +50,7 @@
     protected AbstractImmutableSingleEnumData(E value, E defaultValue, Key<Value<E>> usedKey) {
         super(value, usedKey);
         this.defaultValue = defaultValue;
-        this.cachedValue = Sponge.getRegistry().getValueFactory().createValue(usedKey, this.defaultValue, this.value).asImmutable();
+        this.cachedValue = Sponge.getRegistry().getValueFactory().createImmutableValue(usedKey, this.value, this.defaultValue);
     }
 
     protected final ImmutableValue<E> enumType() {
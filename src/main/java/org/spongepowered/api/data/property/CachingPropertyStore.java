@@ -0,0 +1,159 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.property;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.spongepowered.api.data.ImmutableDataHolder;
+import org.spongepowered.api.data.Property;
+import org.spongepowered.api.util.Direction;
+import org.spongepowered.api.world.Location;
+import org.spongepowered.api.world.World;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Optional;
+
+/**
+ * A {@link PropertyStore} that dispatches to a fixed set of other
+ * {@link PropertyStore}s for a single {@link Property} class.
+ *
+ * <p>The delegate stores are sorted by {@link PropertyStore#getPriority()}
+ * once, on construction, so a lookup is a plain walk over a precomputed
+ * table rather than a resolution and sort per call. Results for
+ * {@link ImmutableDataHolder}s, such as
+ * {@link org.spongepowered.api.block.BlockState}s, are additionally
+ * memoized per holder instance when every delegate reports them as
+ * {@link PropertyStore#isImmutableFor(PropertyHolder) immutable}. Holders
+ * are weakly referenced and compared by identity.</p>
+ *
+ * <p>Lookups by {@link Location} depend on the world and are never
+ * cached.</p>
+ *
+ * @param <T> The type of property that this store can handle
+ */
+public final class CachingPropertyStore<T extends Property<?, ?>> implements PropertyStore<T> {
+
+    private static final Comparator<PropertyStore<?>> BY_PRIORITY = (a, b) -> Integer.compare(b.getPriority(), a.getPriority());
+
+    private final PropertyStore<T>[] stores;
+    private final Cache<PropertyHolder, Optional<T>> cache = CacheBuilder.newBuilder().weakKeys().build();
+
+    /**
+     * Creates a new {@link CachingPropertyStore} dispatching to the given
+     * stores, highest priority first.
+     *
+     * @param stores The stores to dispatch to
+     */
+    @SuppressWarnings("unchecked")
+    public CachingPropertyStore(Collection<? extends PropertyStore<T>> stores) {
+        this.stores = checkNotNull(stores, "stores").toArray(new PropertyStore[stores.size()]);
+        for (PropertyStore<T> store : this.stores) {
+            checkNotNull(store, "store");
+        }
+        Arrays.sort(this.stores, BY_PRIORITY);
+    }
+
+    @Override
+    public Optional<T> getFor(PropertyHolder propertyHolder) {
+        checkNotNull(propertyHolder, "propertyHolder");
+        if (!(propertyHolder instanceof ImmutableDataHolder)) {
+            return query(propertyHolder);
+        }
+        Optional<T> property = this.cache.getIfPresent(propertyHolder);
+        if (property == null) {
+            property = query(propertyHolder);
+            if (isImmutableFor(propertyHolder)) {
+                this.cache.put(propertyHolder, property);
+            }
+        }
+        return property;
+    }
+
+    private Optional<T> query(PropertyHolder propertyHolder) {
+        for (PropertyStore<T> store : this.stores) {
+            Optional<T> property = store.getFor(propertyHolder);
+            if (property.isPresent()) {
+                return property;
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<T> getFor(Location<World> location) {
+        for (PropertyStore<T> store : this.stores) {
+            Optional<T> property = store.getFor(location);
+            if (property.isPresent()) {
+                return property;
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<T> getFor(Location<World> location, Direction direction) {
+        for (PropertyStore<T> store : this.stores) {
+            Optional<T> property = store.getFor(location, direction);
+            if (property.isPresent()) {
+                return property;
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public boolean isImmutableFor(PropertyHolder propertyHolder) {
+        for (PropertyStore<T> store : this.stores) {
+            if (!store.isImmutableFor(propertyHolder)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets the priority of the highest priority delegate, or <code>0</code>
+     * if there are none.
+     *
+     * @return The priority
+     */
+    @Override
+    public int getPriority() {
+        return this.stores.length == 0 ? 0 : this.stores[0].getPriority();
+    }
+
+    /**
+     * Discards all memoized results. This should be called if a delegate
+     * store changes what it provides for otherwise immutable holders.
+     */
+    public void invalidate() {
+        this.cache.invalidateAll();
+    }
+
+}
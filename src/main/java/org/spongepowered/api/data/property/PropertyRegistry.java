@@ -46,6 +46,11 @@ public interface PropertyRegistry {
      * Retrieves the {@link PropertyStore} associated for the provided
      * {@link Property} class.
      *
+     * <p>Where several stores contribute to a single property, the returned
+     * store should be resolved once and dispatch over a precomputed,
+     * priority ordered table, such as a {@link CachingPropertyStore}, so
+     * that callers may hold on to it instead of resolving it per lookup.</p>
+     *
      * @param propertyClass The property class
      * @param <T> The type of property
      * @return The property store, if available
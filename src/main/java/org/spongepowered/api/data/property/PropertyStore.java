@@ -25,6 +25,7 @@
 package org.spongepowered.api.data.property;
 
 
+import org.spongepowered.api.data.ImmutableDataHolder;
 import org.spongepowered.api.data.Property;
 import org.spongepowered.api.util.Direction;
 import org.spongepowered.api.world.Location;
@@ -65,6 +66,25 @@
 
     Optional<T> getFor(Location<World> location, Direction direction);
 
+    /**
+     * Gets whether the property this store provides for the given
+     * {@link PropertyHolder} is fixed for the lifetime of that holder
+     * instance, such that the result of {@link #getFor(PropertyHolder)} may
+     * be memoized, for example by a {@link CachingPropertyStore}.
+     *
+     * <p>By default, this is the case for {@link ImmutableDataHolder}s such
+     * as {@link org.spongepowered.api.block.BlockState}s. Stores that derive
+     * their results from anything other than the holder itself, such as
+     * configuration that may be reloaded, should return
+     * <code>false</code>.</p>
+     *
+     * @param propertyHolder The property holder
+     * @return True if the property is fixed for the holder
+     */
+    default boolean isImmutableFor(PropertyHolder propertyHolder) {
+        return propertyHolder instanceof ImmutableDataHolder;
+    }
+
     /**
      * Gets the priority of which this {@link PropertyStore} is used for
      * handling a particular {@link PropertyHolder}. This is useful for
@@ -25,6 +25,8 @@
 package org.spongepowered.api.data.value;
 
 import org.spongepowered.api.data.key.Key;
+import org.spongepowered.api.data.value.immutable.ImmutableValue;
+import org.spongepowered.api.data.value.immutable.ImmutableValueCache;
 import org.spongepowered.api.data.value.mutable.ListValue;
 import org.spongepowered.api.data.value.mutable.MapValue;
 import org.spongepowered.api.data.value.mutable.MutableBoundedValue;
@@ -65,6 +67,38 @@ public interface ValueFactory {
      */
     <E> Value<E> createValue(Key<Value<E>> key, E element, E defaultValue);
 
+    /**
+     * Gets an {@link ImmutableValue} with the provided {@link Key} and the
+     * <code>E</code> element, using the element as the default value.
+     *
+     * @param key The key for the value
+     * @param element The element
+     * @param <E> The type of element
+     * @return The immutable value
+     * @see #createImmutableValue(Key, Object, Object)
+     */
+    default <E> ImmutableValue<E> createImmutableValue(Key<Value<E>> key, E element) {
+        return createImmutableValue(key, element, element);
+    }
+
+    /**
+     * Gets an {@link ImmutableValue} with the provided {@link Key}, the
+     * <code>E</code> element and the provided <code>E</code> default value.
+     *
+     * <p>If the element and default value are from a small, bounded domain,
+     * a shared instance from the {@link ImmutableValueCache} is returned
+     * instead of a new one.</p>
+     *
+     * @param key The key for the value
+     * @param element The element
+     * @param defaultValue The default value
+     * @param <E> The type of element
+     * @return The immutable value
+     */
+    default <E> ImmutableValue<E> createImmutableValue(Key<Value<E>> key, E element, E defaultValue) {
+        return ImmutableValueCache.getOrCreate(key, element, defaultValue, () -> createValue(key, element, defaultValue).asImmutable());
+    }
+
     /**
      * Creates a new {@link ListValue} with the provided {@link Key} and
      * {@link List} of elements. The default value will be an empty list.
@@ -55,6 +55,10 @@
      * {@link ValueContainer} too is recreated as a new instance with the new
      * {@link ImmutableValue}.
      *
+     * <p>If the value is from a small, bounded domain, implementations may
+     * return a shared instance from the {@link ImmutableValueCache} rather
+     * than a new one.</p>
+     *
      * @param value The value to replace
      * @return The owning {@link ValueContainer}, a new instance if it too is
      *     immutable
@@ -0,0 +1,163 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.value.immutable;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.Objects;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.spongepowered.api.CatalogType;
+import org.spongepowered.api.data.key.Key;
+import org.spongepowered.api.data.value.BaseValue;
+import org.spongepowered.api.data.value.ValueFactory;
+
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
+
+/**
+ * A flyweight cache of {@link ImmutableValue}s whose elements come from small,
+ * bounded domains: booleans, small integers, enum constants and
+ * {@link CatalogType}s. As immutable values can not change, a single
+ * instance can be shared for each {@link Key}, element and default value,
+ * instead of creating a new one every time values are collected, for example
+ * by {@link org.spongepowered.api.data.value.ValueContainer#getValues()}.
+ *
+ * <p>Shared values are weakly held, so a value that is no longer used
+ * anywhere may be replaced by a new instance on the next request.</p>
+ *
+ * <p>Only values whose remaining state, such as the bounds of an
+ * {@link ImmutableBoundedValue}, is fully determined by their key may be
+ * cached. Cached values are shared, so they must be compared with
+ * {@link Object#equals(Object)} rather than by identity.</p>
+ *
+ * @see ValueFactory#createImmutableValue(Key, Object, Object)
+ */
+public final class ImmutableValueCache {
+
+    /**
+     * The smallest integer element that is cached.
+     */
+    public static final int MIN_CACHED_INTEGER = -128;
+
+    /**
+     * The largest integer element that is cached.
+     */
+    public static final int MAX_CACHED_INTEGER = 1024;
+
+    // Values are weakly held, so entries of unused values, and of keys of
+    // unloaded plugins, are dropped instead of being kept forever
+    private static final Cache<CacheKey, ImmutableValue<?>> cache = CacheBuilder.newBuilder().weakValues().build();
+
+    /**
+     * Gets whether immutable values with the given element are cached.
+     *
+     * @param element The element
+     * @return True if the element is from a bounded domain
+     */
+    public static boolean isCacheable(@Nullable Object element) {
+        if (element instanceof Boolean || element instanceof Enum || element instanceof CatalogType) {
+            return true;
+        }
+        if (element instanceof Integer || element instanceof Short || element instanceof Byte) {
+            final int value = ((Number) element).intValue();
+            return value >= MIN_CACHED_INTEGER && value <= MAX_CACHED_INTEGER;
+        }
+        return false;
+    }
+
+    /**
+     * Gets the shared immutable value for the given {@link Key}, element and
+     * default value, creating it with the given factory if it is not cached
+     * yet. If the element or default value is not
+     * {@link #isCacheable(Object) cacheable}, the factory is called and its
+     * value returned without being cached.
+     *
+     * @param key The key of the value
+     * @param element The element of the value
+     * @param defaultValue The default value
+     * @param factory The factory creating the value
+     * @param <E> The type of element
+     * @param <V> The type of immutable value
+     * @return The shared or newly created immutable value
+     */
+    @SuppressWarnings("unchecked")
+    public static <E, V extends ImmutableValue<E>> V getOrCreate(Key<? extends BaseValue<E>> key, E element, E defaultValue,
+            Supplier<V> factory) {
+        checkNotNull(key, "key");
+        checkNotNull(factory, "factory");
+        if (!isCacheable(element) || !isCacheable(defaultValue)) {
+            return factory.get();
+        }
+        final CacheKey cacheKey = new CacheKey(key, element, defaultValue);
+        V value = (V) cache.getIfPresent(cacheKey);
+        if (value == null) {
+            value = checkNotNull(factory.get(), "value");
+            final ImmutableValue<?> previous = cache.asMap().putIfAbsent(cacheKey, value);
+            if (previous != null) {
+                value = (V) previous;
+            }
+        }
+        return value;
+    }
+
+    private static final class CacheKey {
+
+        private final Key<?> key;
+        private final Object element;
+        private final Object defaultValue;
+        private final int hashCode;
+
+        CacheKey(Key<?> key, Object element, Object defaultValue) {
+            this.key = key;
+            this.element = element;
+            this.defaultValue = defaultValue;
+            this.hashCode = Objects.hashCode(key, element, defaultValue);
+        }
+
+        @Override
+        public boolean equals(@Nullable Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof CacheKey)) {
+                return false;
+            }
+            final CacheKey that = (CacheKey) obj;
+            return this.key.equals(that.key) && this.element.equals(that.element) && this.defaultValue.equals(that.defaultValue);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+
+    }
+
+    private ImmutableValueCache() {
+    }
+
+}
@@ -31,6 +31,7 @@
 import org.spongepowered.api.data.merge.MergeFunction;
 import org.spongepowered.api.data.value.BaseValue;
 import org.spongepowered.api.data.value.ValueContainer;
+import org.spongepowered.api.data.value.immutable.ImmutableValue;
 
 import java.util.Collection;
 import java.util.Optional;
@@ -181,6 +182,38 @@ default <E> DataTransactionResult transform(Key<? extends BaseValue<E>> key, Fun
      */
     <E> DataTransactionResult offer(Key<? extends BaseValue<E>> key, E value);
 
+    /**
+     * Offers the given {@code value} as defined by the provided {@link Key},
+     * returning only whether the offer was successful.
+     *
+     * <p>This is meant for frequent writes, such as updating the velocity
+     * or health of an entity every tick, where the result is not needed.
+     * Implementations should override this method to skip creating a
+     * {@link DataTransactionResult} and the {@link ImmutableValue}s it
+     * holds.</p>
+     *
+     * @param key The key to the value to set
+     * @param value The value to set
+     * @param <E> The type of value
+     * @return True if the value was successfully offered
+     */
+    default <E> boolean tryOffer(Key<? extends BaseValue<E>> key, E value) {
+        return offer(key, value).isSuccessful();
+    }
+
+    /**
+     * Offers the given {@link BaseValue}, returning only whether the offer
+     * was successful.
+     *
+     * @param value The value to set
+     * @param <E> The type of the element wrapped by the value
+     * @return True if the value was successfully offered
+     * @see #tryOffer(Key, Object)
+     */
+    default <E> boolean tryOffer(BaseValue<E> value) {
+        return tryOffer(value.getKey(), value.get());
+    }
+
     /**
      * Offers the given {@link BaseValue} as defined by the provided
      * {@link Key} such that a {@link DataTransactionResult} is returned for
@@ -257,6 +290,32 @@ default DataTransactionResult offer(Iterable<H> valueContainers, MergeFunction f
         return builder.build();
     }
 
+    /**
+     * Creates a new {@link ValueTransaction} to batch several offers and
+     * removals into a single operation on this {@link CompositeValueStore}.
+     * <pre>
+     * {@code
+     * entity.transaction()
+     *     .offer(Keys.HEALTH, 20.0)
+     *     .offer(Keys.FOOD_LEVEL, 20)
+     *     .remove(Keys.FIRE_TICKS)
+     *     .commit();
+     * }
+     * </pre>
+     *
+     * <p>The default transaction checks that every change is supported
+     * before applying any, then applies them in order through the methods of
+     * this store, and {@link #undo(DataTransactionResult) undoes} the
+     * applied changes if one fails. Implementations should override this
+     * method to apply all changes at once and, for data holders, throw a
+     * single change event.</p>
+     *
+     * @return The new transaction
+     */
+    default ValueTransaction<H> transaction() {
+        return new SimpleValueTransaction<>(this);
+    }
+
     /**
      * Attempts to remove all {@link Value}s associated with the class of the
      * provided {@link ValueContainer} class. All values that were successfully
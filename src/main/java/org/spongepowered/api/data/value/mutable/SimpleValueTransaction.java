@@ -0,0 +1,120 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.value.mutable;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import org.spongepowered.api.data.DataTransactionResult;
+import org.spongepowered.api.data.key.Key;
+import org.spongepowered.api.data.merge.MergeFunction;
+import org.spongepowered.api.data.value.BaseValue;
+import org.spongepowered.api.data.value.ValueContainer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * The default {@link ValueTransaction}, which applies each change through the
+ * regular methods of the store and undoes the applied changes in reverse
+ * order if one of them fails.
+ */
+class SimpleValueTransaction<H extends ValueContainer<?>> implements ValueTransaction<H> {
+
+    private final CompositeValueStore<?, H> store;
+    private final List<Predicate<CompositeValueStore<?, H>>> checks = new ArrayList<>();
+    private final List<Function<CompositeValueStore<?, H>, DataTransactionResult>> changes = new ArrayList<>();
+    private boolean committed;
+
+    SimpleValueTransaction(CompositeValueStore<?, H> store) {
+        this.store = checkNotNull(store, "store");
+    }
+
+    private ValueTransaction<H> add(Predicate<CompositeValueStore<?, H>> check,
+            Function<CompositeValueStore<?, H>, DataTransactionResult> change) {
+        checkState(!this.committed, "The transaction was already committed");
+        this.checks.add(check);
+        this.changes.add(change);
+        return this;
+    }
+
+    @Override
+    public <E> ValueTransaction<H> offer(Key<? extends BaseValue<E>> key, E value) {
+        checkNotNull(key, "key");
+        checkNotNull(value, "value");
+        return add(store -> store.supports(key), store -> store.offer(key, value));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public ValueTransaction<H> offer(H valueContainer, MergeFunction function) {
+        checkNotNull(valueContainer, "valueContainer");
+        checkNotNull(function, "function");
+        return add(store -> store.supports((Class<? extends H>) valueContainer.getClass()),
+                store -> store.offer(valueContainer, function));
+    }
+
+    @Override
+    public ValueTransaction<H> remove(Key<?> key) {
+        checkNotNull(key, "key");
+        return add(store -> store.supports(key), store -> store.remove(key));
+    }
+
+    @Override
+    public ValueTransaction<H> remove(Class<? extends H> containerClass) {
+        checkNotNull(containerClass, "containerClass");
+        return add(store -> store.supports(containerClass), store -> store.remove(containerClass));
+    }
+
+    @Override
+    public DataTransactionResult commit() {
+        checkState(!this.committed, "The transaction was already committed");
+        this.committed = true;
+        for (Predicate<CompositeValueStore<?, H>> check : this.checks) {
+            if (!check.test(this.store)) {
+                return DataTransactionResult.failNoData();
+            }
+        }
+        final List<DataTransactionResult> applied = new ArrayList<>(this.changes.size());
+        for (Function<CompositeValueStore<?, H>, DataTransactionResult> change : this.changes) {
+            final DataTransactionResult result = change.apply(this.store);
+            if (!result.isSuccessful()) {
+                for (int i = applied.size() - 1; i >= 0; i--) {
+                    this.store.undo(applied.get(i));
+                }
+                return DataTransactionResult.builder().result(result.getType()).reject(result.getRejectedData()).build();
+            }
+            applied.add(result);
+        }
+        final DataTransactionResult.Builder builder = DataTransactionResult.builder().result(DataTransactionResult.Type.SUCCESS);
+        for (DataTransactionResult result : applied) {
+            builder.absorbResult(result);
+        }
+        return builder.build();
+    }
+
+}
@@ -0,0 +1,133 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.value.mutable;
+
+import org.spongepowered.api.data.DataTransactionResult;
+import org.spongepowered.api.data.key.Key;
+import org.spongepowered.api.data.merge.MergeFunction;
+import org.spongepowered.api.data.value.BaseValue;
+import org.spongepowered.api.data.value.ValueContainer;
+import org.spongepowered.api.event.data.ChangeDataHolderEvent;
+
+/**
+ * A batch of changes to a {@link CompositeValueStore} that are applied
+ * together on {@link #commit()}. Nothing is changed on the store until the
+ * transaction is committed.
+ *
+ * <p>A committed transaction is validated once, before any change is made,
+ * and applied atomically: either all changes are applied, or none are.
+ * Implementations for data holders throw a single
+ * {@link ChangeDataHolderEvent} for the whole transaction, and cancelling it
+ * reverts every change.</p>
+ *
+ * @param <H> The type of value container of the store
+ * @see CompositeValueStore#transaction()
+ */
+public interface ValueTransaction<H extends ValueContainer<?>> {
+
+    /**
+     * Adds an offer of the given {@code value} for the provided {@link Key}.
+     *
+     * @param key The key to the value to set
+     * @param value The value to set
+     * @param <E> The type of value
+     * @return This transaction, for chaining
+     * @see CompositeValueStore#offer(Key, Object)
+     */
+    <E> ValueTransaction<H> offer(Key<? extends BaseValue<E>> key, E value);
+
+    /**
+     * Adds an offer of the given {@link BaseValue}.
+     *
+     * @param value The value to set
+     * @param <E> The type of the element wrapped by the value
+     * @return This transaction, for chaining
+     * @see CompositeValueStore#offer(BaseValue)
+     */
+    default <E> ValueTransaction<H> offer(BaseValue<E> value) {
+        return offer(value.getKey(), value.get());
+    }
+
+    /**
+     * Adds an offer of the given {@link ValueContainer}, ignoring any values
+     * already present on the store.
+     *
+     * @param valueContainer The value container to offer
+     * @return This transaction, for chaining
+     * @see CompositeValueStore#offer(ValueContainer)
+     */
+    default ValueTransaction<H> offer(H valueContainer) {
+        return offer(valueContainer, MergeFunction.IGNORE_ALL);
+    }
+
+    /**
+     * Adds an offer of the given {@link ValueContainer}, resolving conflicts
+     * with the given {@link MergeFunction}.
+     *
+     * @param valueContainer The value container to offer
+     * @param function The merge function to resolve conflicts
+     * @return This transaction, for chaining
+     * @see CompositeValueStore#offer(ValueContainer, MergeFunction)
+     */
+    ValueTransaction<H> offer(H valueContainer, MergeFunction function);
+
+    /**
+     * Adds the removal of the data associated with the provided {@link Key}.
+     *
+     * @param key The key of the data
+     * @return This transaction, for chaining
+     * @see CompositeValueStore#remove(Key)
+     */
+    ValueTransaction<H> remove(Key<?> key);
+
+    /**
+     * Adds the removal of all values associated with the given container
+     * class.
+     *
+     * @param containerClass The container class
+     * @return This transaction, for chaining
+     * @see CompositeValueStore#remove(Class)
+     */
+    ValueTransaction<H> remove(Class<? extends H> containerClass);
+
+    /**
+     * Validates and applies all changes of this transaction to the store.
+     *
+     * <p>If any change is not supported by the store, nothing is applied and
+     * the result is a {@link DataTransactionResult.Type#FAILURE}. If a change
+     * fails to apply, the changes applied before it are undone and the
+     * result has the type of the failed change, such as
+     * {@link DataTransactionResult.Type#FAILURE},
+     * {@link DataTransactionResult.Type#CANCELLED} or
+     * {@link DataTransactionResult.Type#ERROR}, along with its rejected
+     * data. Otherwise the result aggregates the successful and replaced data
+     * of every change.</p>
+     *
+     * @return The aggregated transaction result
+     * @throws IllegalStateException If the transaction was already committed
+     */
+    DataTransactionResult commit();
+
+}
@@ -0,0 +1,153 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.profile;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import javax.annotation.Nullable;
+
+/**
+ * Represents a cache of {@link GameProfile}s used by the
+ * {@link GameProfileManager}.
+ *
+ * <p>The default cache keeps recently used profiles in memory, bounded in
+ * size and with entries expiring after some time, backed by a persistent
+ * tier that survives restarts. Names that are known not to exist are
+ * remembered as well, so repeated lookups of unknown names do not reach the
+ * {@link GameProfileLookup} of the manager, which resolves misses and whose
+ * results are added to this cache.</p>
+ *
+ * <p>A different cache may be installed with
+ * {@link GameProfileManager#setCache(GameProfileCache)}, independently of
+ * the lookup backend.</p>
+ *
+ * <p>Implementations of this interface are expected to be thread-safe.</p>
+ */
+public interface GameProfileCache {
+
+    /**
+     * Adds a {@link GameProfile} to this cache.
+     *
+     * @param profile The profile to cache
+     * @param overwrite true to replace an existing entry for the profile
+     * @param expiry The time the entry expires, or null to use the default
+     *        expiry of this cache
+     * @return true if the profile was added
+     */
+    boolean add(GameProfile profile, boolean overwrite, @Nullable Instant expiry);
+
+    /**
+     * Adds a {@link GameProfile} to this cache, replacing any existing entry
+     * and using the default expiry of this cache.
+     *
+     * @param profile The profile to cache
+     * @return true if the profile was added
+     */
+    default boolean add(GameProfile profile) {
+        return this.add(profile, true, null);
+    }
+
+    /**
+     * Records that no profile exists for the given user name
+     * (case-insensitive). Until the entry expires or a profile with the name
+     * is added, lookups of the name complete with a
+     * {@link ProfileNotFoundException} without consulting the
+     * {@link GameProfileLookup}.
+     *
+     * @param name The user name
+     * @param expiry The time the entry expires, or null to use the default
+     *        expiry for unknown names of this cache
+     */
+    void addUnknownName(String name, @Nullable Instant expiry);
+
+    /**
+     * Gets whether the given user name (case-insensitive) is currently known
+     * not to belong to any profile.
+     *
+     * @param name The user name
+     * @return true if the name is known to be unused
+     */
+    boolean isUnknownName(String name);
+
+    /**
+     * Removes a {@link GameProfile} from this cache.
+     *
+     * @param profile The profile to remove
+     * @return true if the profile was cached
+     */
+    boolean remove(GameProfile profile);
+
+    /**
+     * Removes all entries, including unknown names, from this cache.
+     */
+    void clear();
+
+    /**
+     * Gets a cached {@link GameProfile} by its unique ID.
+     *
+     * @param uniqueId The unique ID
+     * @return The profile, if it is cached
+     */
+    Optional<GameProfile> getById(UUID uniqueId);
+
+    /**
+     * Gets the cached {@link GameProfile}s for the given unique IDs.
+     *
+     * @param uniqueIds The unique IDs
+     * @return A map from every requested unique ID to its profile, if it is
+     *         cached
+     */
+    Map<UUID, Optional<GameProfile>> getByIds(Iterable<UUID> uniqueIds);
+
+    /**
+     * Gets a cached {@link GameProfile} by its user name (case-insensitive).
+     *
+     * @param name The user name
+     * @return The profile, if it is cached
+     */
+    Optional<GameProfile> getByName(String name);
+
+    /**
+     * Gets the cached {@link GameProfile}s for the given user names
+     * (case-insensitive).
+     *
+     * @param names The user names
+     * @return A map from every requested name to its profile, if it is
+     *         cached
+     */
+    Map<String, Optional<GameProfile>> getByNames(Iterable<String> names);
+
+    /**
+     * Gets all {@link GameProfile}s in this cache.
+     *
+     * @return The cached profiles
+     */
+    Collection<GameProfile> getProfiles();
+
+}
@@ -0,0 +1,104 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.profile;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Represents the backend used by the {@link GameProfileManager} to look up
+ * {@link GameProfile}s that are not found in its {@link GameProfileCache}.
+ *
+ * <p>The default lookup queries the profile servers. A different lookup may
+ * be installed with {@link GameProfileManager#setLookup(GameProfileLookup)},
+ * for example a local stand-in that never contacts the profile servers,
+ * while keeping the cache in place.</p>
+ *
+ * <p>Implementations of this interface are expected to be thread-safe. All
+ * methods may block and should not be called from the main thread.</p>
+ */
+public interface GameProfileLookup {
+
+    /**
+     * Looks up a {@link GameProfile} by its unique ID.
+     *
+     * @param uniqueId The unique ID
+     * @return The profile, if it exists
+     */
+    Optional<GameProfile> lookupById(UUID uniqueId);
+
+    /**
+     * Looks up the {@link GameProfile}s for the given unique IDs.
+     *
+     * <p>Implementations should override this method to resolve the
+     * profiles in as few requests as possible. By default, every profile is
+     * looked up on its own.</p>
+     *
+     * @param uniqueIds The unique IDs
+     * @return A map from every requested unique ID to its profile, if it
+     *         exists
+     */
+    default Map<UUID, Optional<GameProfile>> lookupByIds(Iterable<UUID> uniqueIds) {
+        checkNotNull(uniqueIds, "uniqueIds");
+        final Map<UUID, Optional<GameProfile>> profiles = new LinkedHashMap<>();
+        for (UUID uniqueId : uniqueIds) {
+            profiles.put(uniqueId, lookupById(uniqueId));
+        }
+        return profiles;
+    }
+
+    /**
+     * Looks up a {@link GameProfile} by its user name (case-insensitive).
+     *
+     * @param name The user name
+     * @return The profile, if it exists
+     */
+    Optional<GameProfile> lookupByName(String name);
+
+    /**
+     * Looks up the {@link GameProfile}s for the given user names
+     * (case-insensitive).
+     *
+     * <p>Implementations should override this method to resolve the
+     * profiles in as few requests as possible. By default, every profile is
+     * looked up on its own.</p>
+     *
+     * @param names The user names
+     * @return A map from every requested name to its profile, if it exists
+     */
+    default Map<String, Optional<GameProfile>> lookupByNames(Iterable<String> names) {
+        checkNotNull(names, "names");
+        final Map<String, Optional<GameProfile>> profiles = new LinkedHashMap<>();
+        for (String name : names) {
+            profiles.put(name, lookupByName(name));
+        }
+        return profiles;
+    }
+
+}
@@ -30,6 +30,7 @@
 
 import java.io.IOException;
 import java.util.Collection;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ExecutionException;
 
@@ -107,6 +108,81 @@ public interface GameProfileManager {
      */
     ListenableFuture<Collection<GameProfile>> getAllById(Iterable<UUID> uniqueIds, boolean useCache);
 
+    /**
+     * Looks up {@link GameProfile}s by their user names (case-insensitive),
+     * completing each profile independently.
+     *
+     * <p>Unlike {@link #getAllByName(Iterable, boolean)}, the result of a
+     * cached name, or a name known to be unused, is available immediately
+     * while the remaining names are resolved in a single batch request.</p>
+     *
+     * @param names The user names
+     * @param useCache true to perform a cache lookup first
+     * @return A map from every requested name to the result of its request
+     */
+    Map<String, ListenableFuture<GameProfile>> getEachByName(Iterable<String> names, boolean useCache);
+
+    /**
+     * Looks up {@link GameProfile}s by their unique IDs, completing each
+     * profile independently.
+     *
+     * <p>Unlike {@link #getAllById(Iterable, boolean)}, the result of a
+     * cached profile is available immediately while the remaining profiles
+     * are resolved in a single batch request.</p>
+     *
+     * @param uniqueIds The UUIDs
+     * @param useCache true to perform a cache lookup first
+     * @return A map from every requested UUID to the result of its request
+     */
+    Map<UUID, ListenableFuture<GameProfile>> getEachById(Iterable<UUID> uniqueIds, boolean useCache);
+
+    /**
+     * Gets the {@link GameProfileCache} currently used by this manager.
+     *
+     * @return The cache
+     */
+    GameProfileCache getCache();
+
+    /**
+     * Sets the {@link GameProfileCache} used by this manager, replacing the
+     * cached entries. The {@link GameProfileLookup} is not changed.
+     *
+     * @param cache The cache
+     */
+    void setCache(GameProfileCache cache);
+
+    /**
+     * Gets the default {@link GameProfileCache}.
+     *
+     * @return The default cache
+     */
+    GameProfileCache getDefaultCache();
+
+    /**
+     * Gets the {@link GameProfileLookup} this manager uses to resolve
+     * profiles that are not cached.
+     *
+     * @return The lookup
+     */
+    GameProfileLookup getLookup();
+
+    /**
+     * Sets the {@link GameProfileLookup} this manager uses to resolve
+     * profiles that are not cached, keeping the current
+     * {@link GameProfileCache}.
+     *
+     * @param lookup The lookup
+     */
+    void setLookup(GameProfileLookup lookup);
+
+    /**
+     * Gets the default {@link GameProfileLookup}, backed by the profile
+     * servers.
+     *
+     * @return The default lookup
+     */
+    GameProfileLookup getDefaultLookup();
+
     /**
      * Gets a collection of all cached {@link GameProfile}s.
      *
@@ -134,4 +210,35 @@ public interface GameProfileManager {
      */
     Collection<GameProfile> match(String lastKnownName);
 
+    /**
+     * Returns a collection of at most {@code limit} matching cached
+     * {@link GameProfile}s whose last known user names start with the given
+     * string (case-insensitive), ordered by name.
+     *
+     * <p>The cache is expected to maintain an index of last known names that
+     * is updated as profiles are cached, so that the cost of this method
+     * depends on the number of matches rather than on the size of the
+     * cache.</p>
+     *
+     * @param lastKnownName The start of the user name
+     * @param limit The maximum number of profiles to return
+     * @return The result of the request
+     * @throws IllegalArgumentException If the limit is below 0
+     * @see #match(String)
+     */
+    Collection<GameProfile> match(String lastKnownName, int limit);
+
+    /**
+     * Returns a collection of at most {@code limit} matching cached
+     * {@link GameProfile}s whose last known user names start with the given
+     * string (case-insensitive), without blocking the calling thread.
+     *
+     * @param lastKnownName The start of the user name
+     * @param limit The maximum number of profiles to return
+     * @return The result of the request
+     * @throws IllegalArgumentException If the limit is below 0
+     * @see #match(String, int)
+     */
+    ListenableFuture<Collection<GameProfile>> matchAsync(String lastKnownName, int limit);
+
 }
@@ -24,10 +24,14 @@
  */
 package org.spongepowered.api.scheduler;
 
+import org.spongepowered.api.plugin.PluginContainer;
+
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Represents a scheduler for running {@link Task}s.
@@ -91,6 +95,106 @@ public interface Scheduler {
      */
     int getPreferredTickInterval();
 
+    /**
+     * Gets the time synchronous tasks may take per tick before tasks with a
+     * priority lower than {@link TaskPriority#HIGH} are deferred to the next
+     * tick. A budget of 0 means tasks are never deferred, which is the
+     * default.
+     *
+     * @param unit The unit to return the budget in
+     * @return The tick budget
+     */
+    long getTickBudget(TimeUnit unit);
+
+    /**
+     * Sets the time synchronous tasks may take per tick.
+     *
+     * <p>With a budget set, the tasks due in a tick are run in order of
+     * {@link TaskPriority}. Once the time spent running them exceeds the
+     * budget, the remaining tasks are deferred to the next tick, where they
+     * run before newly due tasks of the same priority. Tasks with
+     * {@link TaskPriority#LOW} are also deferred whenever the previous tick
+     * took longer than {@link #getPreferredTickInterval()}. Deferred
+     * repeating tasks keep their original interval.</p>
+     *
+     * <p>No task is deferred for more than
+     * {@link #getMaxDeferredTicks()} consecutive ticks. A task reaching that
+     * limit is promoted and run in the next tick as if it had
+     * {@link TaskPriority#HIGH}, so tasks are not starved under sustained
+     * lag.</p>
+     *
+     * @param budget The budget, or 0 to disable deferral
+     * @param unit The unit the budget is in
+     * @throws IllegalArgumentException If the budget is below 0
+     */
+    void setTickBudget(long budget, TimeUnit unit);
+
+    /**
+     * Gets the maximum number of consecutive ticks a synchronous task may be
+     * deferred before it is promoted and run regardless of the
+     * {@link #getTickBudget(TimeUnit) tick budget}. The default is 20
+     * ticks.
+     *
+     * @return The maximum number of consecutive deferred ticks
+     */
+    int getMaxDeferredTicks();
+
+    /**
+     * Sets the maximum number of consecutive ticks a synchronous task may be
+     * deferred before it is promoted and run regardless of the
+     * {@link #getTickBudget(TimeUnit) tick budget}.
+     *
+     * @param ticks The maximum number of consecutive deferred ticks
+     * @throws IllegalArgumentException If the number of ticks is below 1
+     */
+    void setMaxDeferredTicks(int ticks);
+
+    /**
+     * Gets the metrics of deferred and coalesced synchronous tasks.
+     *
+     * @return The tick budget metrics
+     */
+    TickBudgetMetrics getTickBudgetMetrics();
+
+    /**
+     * Gets the execution metrics aggregated over all tasks owned by the given
+     * plugin, including tasks that are no longer scheduled.
+     *
+     * @param plugin The plugin that created the tasks
+     * @return The metrics of the plugin's tasks
+     * @throws IllegalArgumentException If the object passed in is not a plugin
+     *         instance
+     */
+    TaskMetrics getMetrics(Object plugin);
+
+    /**
+     * Gets the execution metrics of every plugin that ran tasks during the
+     * last completed snapshot period. A new snapshot is taken every
+     * {@link #getMetricsSnapshotInterval(TimeUnit)}.
+     *
+     * @return The metrics of the last period by plugin
+     */
+    Map<PluginContainer, TaskMetrics> getMetricsSnapshot();
+
+    /**
+     * Gets the length of the period covered by a
+     * {@link #getMetricsSnapshot() metrics snapshot}.
+     *
+     * @param unit The unit to return the interval in
+     * @return The snapshot interval
+     */
+    long getMetricsSnapshotInterval(TimeUnit unit);
+
+    /**
+     * Sets the length of the period covered by a
+     * {@link #getMetricsSnapshot() metrics snapshot}.
+     *
+     * @param interval The snapshot interval
+     * @param unit The unit the interval is in
+     * @throws IllegalArgumentException If the interval is not positive
+     */
+    void setMetricsSnapshotInterval(long interval, TimeUnit unit);
+
     /**
      * Creates a new {@link ExecutorService} that can be used to schedule
      * synchronous tasks through the standard Java concurrency interfaces.
@@ -29,6 +29,7 @@
 import org.spongepowered.api.util.Identifiable;
 import org.spongepowered.api.util.ResettableBuilder;
 
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
@@ -101,6 +102,28 @@ static Builder builder() {
      */
     boolean isAsynchronous();
 
+    /**
+     * Gets the execution metrics of this task since it was submitted.
+     *
+     * @return The metrics of this task
+     */
+    TaskMetrics getMetrics();
+
+    /**
+     * Gets the priority of this task.
+     *
+     * @return The priority
+     */
+    TaskPriority getPriority();
+
+    /**
+     * Gets the key submissions of this task are coalesced by, if any.
+     *
+     * @return The coalescing key, if present
+     * @see Builder#coalesce(Object)
+     */
+    Optional<Object> getCoalescingKey();
+
     /**
      * Represents a builder to create a {@link Task}.
      */
@@ -216,9 +239,37 @@ default Builder execute(Runnable runnable) {
          */
         Builder name(String name);
 
+        /**
+         * Sets the priority of the task. By default, the priority is
+         * {@link TaskPriority#NORMAL}.
+         *
+         * @param priority The priority
+         * @return This builder, for chaining
+         * @see Scheduler#setTickBudget(long, TimeUnit)
+         */
+        Builder priority(TaskPriority priority);
+
+        /**
+         * Sets the key this task is coalesced by. When the task is submitted
+         * while a task of the same plugin and synchronisation type with an
+         * equal key is pending and has not started running yet, no new task
+         * is scheduled and the pending task is returned instead.
+         *
+         * <p>This allows requesting work, such as saving a file after each
+         * change, from many places without running it several times in one
+         * tick.</p>
+         *
+         * @param key The coalescing key
+         * @return This builder, for chaining
+         */
+        Builder coalesce(Object key);
+
         /**
          * Submits the task to the scheduler and returns the task that was created.
          *
+         * <p>If the task was {@link #coalesce(Object) coalesced} into a
+         * pending task, the pending task is returned.</p>
+         *
          * @param plugin The owner of the task
          * @return A new instance of a {@link Task}
          * @throws IllegalArgumentException If the object passed in is not a plugin
@@ -0,0 +1,106 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.scheduler;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Represents the execution metrics of a single {@link Task}, or aggregated
+ * over all tasks of a plugin.
+ *
+ * <p>Metrics returned by {@link Task#getMetrics()} and
+ * {@link Scheduler#getMetrics(Object)} are live and cover the whole lifetime
+ * of the task or plugin, while the metrics in
+ * {@link Scheduler#getMetricsSnapshot()} are fixed and cover a single
+ * snapshot period.</p>
+ */
+public interface TaskMetrics {
+
+    /**
+     * Gets the number of times the task was run.
+     *
+     * @return The number of invocations
+     */
+    long getInvocations();
+
+    /**
+     * Gets the total time spent running the task.
+     *
+     * @param unit The unit to return the time in
+     * @return The total execution time
+     */
+    long getTotalExecutionTime(TimeUnit unit);
+
+    /**
+     * Gets the mean time a run of the task took.
+     *
+     * @param unit The unit to return the time in
+     * @return The mean execution time
+     */
+    long getMeanExecutionTime(TimeUnit unit);
+
+    /**
+     * Gets the execution time below which the given fraction of runs
+     * finished. Implementations may approximate percentiles, for example
+     * from a histogram of recent runs.
+     *
+     * @param percentile The percentile, between 0 and 1, such as
+     *        {@code 0.99}
+     * @param unit The unit to return the time in
+     * @return The execution time at the percentile
+     * @throws IllegalArgumentException If the percentile is not between 0
+     *         and 1
+     */
+    long getExecutionTimePercentile(double percentile, TimeUnit unit);
+
+    /**
+     * Gets the longest time a run of the task took.
+     *
+     * @param unit The unit to return the time in
+     * @return The maximum execution time
+     */
+    long getMaxExecutionTime(TimeUnit unit);
+
+    /**
+     * Gets the number of runs that overran. A run of a repeating task
+     * overruns when it is still running once the next repetition is due, a
+     * run of a synchronous task also overruns when it takes longer than
+     * {@link Scheduler#getPreferredTickInterval()}.
+     *
+     * @return The number of overruns
+     */
+    long getOverruns();
+
+    /**
+     * Gets the mean time between the task being due and it starting to run.
+     * For asynchronous tasks this is the time spent waiting for a thread,
+     * for synchronous tasks it includes the ticks the task was deferred.
+     *
+     * @param unit The unit to return the time in
+     * @return The mean queueing delay
+     */
+    long getMeanQueueingDelay(TimeUnit unit);
+
+}
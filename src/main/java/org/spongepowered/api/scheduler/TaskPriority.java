@@ -0,0 +1,61 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.scheduler;
+
+/**
+ * The priority of a synchronous {@link Task}, which determines the order in
+ * which tasks due in the same tick are run and whether they may be deferred
+ * to a later tick when the {@link Scheduler#getTickBudget tick budget} is
+ * exhausted.
+ *
+ * <p>The priority of asynchronous tasks is ignored.</p>
+ */
+public enum TaskPriority {
+
+    /**
+     * The task is run before other tasks due in the same tick and is never
+     * deferred.
+     */
+    HIGH,
+
+    /**
+     * The default priority. The task may be deferred to the next tick once
+     * the tick budget is exhausted, for at most
+     * {@link Scheduler#getMaxDeferredTicks()} consecutive ticks.
+     */
+    NORMAL,
+
+    /**
+     * The task is run after other tasks due in the same tick and is the
+     * first to be deferred once the tick budget is exhausted, or when the
+     * previous tick took longer than
+     * {@link Scheduler#getPreferredTickInterval()}. Once the task has been
+     * deferred for {@link Scheduler#getMaxDeferredTicks()} consecutive
+     * ticks, it is promoted and run in the next tick as if it had
+     * {@link #HIGH} priority.
+     */
+    LOW
+
+}
@@ -0,0 +1,98 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.scheduler;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Represents a point-in-time view of how the synchronous task queue of a
+ * {@link Scheduler} kept within its
+ * {@link Scheduler#getTickBudget(TimeUnit) tick budget}.
+ */
+public interface TickBudgetMetrics {
+
+    /**
+     * Gets the number of tasks that are currently deferred and will be run
+     * in the next tick.
+     *
+     * @return The number of deferred tasks
+     */
+    int getDeferredTasks();
+
+    /**
+     * Gets the total number of times a task was deferred to a later tick.
+     * A task deferred over several ticks is counted once per tick.
+     *
+     * @return The total number of deferrals
+     */
+    long getTotalDeferrals();
+
+    /**
+     * Gets the number of consecutive ticks the currently deferred task that
+     * has waited longest has been deferred for. This never exceeds
+     * {@link Scheduler#getMaxDeferredTicks()}.
+     *
+     * @return The longest current deferral in ticks, or 0 if no task is
+     *         deferred
+     */
+    int getLongestDeferral();
+
+    /**
+     * Gets the total number of times a task reached
+     * {@link Scheduler#getMaxDeferredTicks()} and was promoted to run
+     * regardless of the tick budget. A steadily growing count indicates the
+     * budget is too small for the scheduled work.
+     *
+     * @return The total number of promotions
+     */
+    long getTotalPromotions();
+
+    /**
+     * Gets the total number of task submissions that were coalesced into an
+     * already pending task with the same key.
+     *
+     * @return The total number of coalesced submissions
+     * @see Task.Builder#coalesce(Object)
+     */
+    long getTotalCoalesced();
+
+    /**
+     * Gets the number of ticks in which the synchronous tasks exceeded the
+     * tick budget, which can happen as tasks with
+     * {@link TaskPriority#HIGH} are never deferred.
+     *
+     * @return The number of ticks over budget
+     */
+    long getTicksOverBudget();
+
+    /**
+     * Gets the time spent running synchronous tasks in the last tick.
+     *
+     * @param unit The unit to return the time in
+     * @return The time spent in the last tick
+     */
+    long getLastTickTime(TimeUnit unit);
+
+}
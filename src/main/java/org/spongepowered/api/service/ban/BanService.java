@@ -34,6 +34,12 @@
 /**
  * Represents a service with which to ban things, such as {@link GameProfile}s or IP addresses.
  *
+ * <p>IP bans may apply to a single address or to a range of addresses, see
+ * {@link Ban.Ip#getPrefixLength()}. Implementors are expected to index IP
+ * bans by address bits, such as with a
+ * {@link org.spongepowered.api.util.ban.SubnetIndex}, so that checking an
+ * address does not depend on the number of IP bans.</p>
+ *
  * <p>Implementors of this service should treat expired bans as non-existent,
  * even if they choose to retain them in a way not accessible through the ban
  * service API (e.g. writing them to a database). In essence, expired bans
@@ -76,11 +82,25 @@ public interface BanService {
     /**
      * Gets the ban for the given address, if available.
      *
+     * <p>If several bans apply to the address, the one for the most specific
+     * range is returned.</p>
+     *
      * @param address The address.
-     * @return All registered IP bans
+     * @return The most specific IP ban applying to the address, if available
      */
     Optional<Ban.Ip> getBanFor(InetAddress address);
 
+    /**
+     * Gets the ban for exactly the given address range, if available.
+     *
+     * @param address The address of the subnet
+     * @param prefixLength The prefix length of the subnet
+     * @return The IP ban of the range, if available
+     * @throws IllegalArgumentException If the prefix length is negative or
+     *         longer than the address
+     */
+    Optional<Ban.Ip> getBanFor(InetAddress address, int prefixLength);
+
     /**
      * Checks if a {@link GameProfile} has a ban.
      *
@@ -90,7 +110,8 @@ public interface BanService {
     boolean isBanned(GameProfile profile);
 
     /**
-     * Checks if an IP has a ban.
+     * Checks if an IP has a ban, either on the address itself or on a range
+     * containing it.
      *
      * @param address The address
      * @return True if the address has a ban, false otherwise
@@ -113,6 +134,18 @@ public interface BanService {
      */
     boolean pardon(InetAddress address);
 
+    /**
+     * Pardons an IP address range, or removes its ban, if present. Bans on
+     * other ranges overlapping the given range are not affected.
+     *
+     * @param address The address of the subnet
+     * @param prefixLength The prefix length of the subnet
+     * @return Whether the range had a ban present
+     * @throws IllegalArgumentException If the prefix length is negative or
+     *         longer than the address
+     */
+    boolean pardon(InetAddress address, int prefixLength);
+
     /**
      * Removes a ban.
      *
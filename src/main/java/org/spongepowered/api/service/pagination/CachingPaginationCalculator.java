@@ -0,0 +1,61 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.pagination;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.spongepowered.api.command.CommandSource;
+import org.spongepowered.api.text.Text;
+
+class CachingPaginationCalculator<T extends CommandSource> implements PaginationCalculator<T> {
+    private final PaginationCalculator<T> delegate;
+    private final Cache<Text, Integer> lines = CacheBuilder.newBuilder().weakKeys().build();
+
+    CachingPaginationCalculator(PaginationCalculator<T> delegate) {
+        this.delegate = checkNotNull(delegate, "delegate");
+    }
+
+    @Override
+    public int getLinesPerPage(T source) {
+        return this.delegate.getLinesPerPage(source);
+    }
+
+    @Override
+    public int getLines(T source, Text text) {
+        Integer ret = this.lines.getIfPresent(text);
+        if (ret == null) {
+            ret = this.delegate.getLines(source, text);
+            this.lines.put(text, ret);
+        }
+        return ret;
+    }
+
+    @Override
+    public Text center(T source, Text text, String padding) {
+        return this.delegate.center(source, text, padding);
+    }
+}
@@ -52,6 +52,21 @@ public interface PaginationBuilder {
      */
     PaginationBuilder contents(Text... contents);
 
+    /**
+     * Set the contents of this output to a lazy {@link PaginationSource}.
+     * Bidirectional navigation is supported.
+     *
+     * <p>Only the entries of the page being displayed are retrieved from the
+     * source and measured. To locate any page without measuring the entries
+     * before it, each page shows as many entries as the page has lines
+     * available, so entries that wrap over several lines extend their
+     * page.</p>
+     *
+     * @param source The source of the contents to output
+     * @return this
+     */
+    PaginationBuilder contents(PaginationSource source);
+
     /**
      * Set the title text to be used in the title bar of this pagination.
      * This should be less than one line long.
@@ -32,6 +32,25 @@
  */
 public interface PaginationCalculator<T extends CommandSource> {
 
+    /**
+     * Wraps the given calculator so the result of
+     * {@link #getLines(CommandSource, Text)} is remembered per text instance.
+     *
+     * <p>This is only suitable for calculators where the line count of a
+     * text does not depend on the individual source, which is the case when
+     * a calculator is registered for a type of source with a fixed display
+     * width. Texts are held weakly and compared by identity, so repeated
+     * measurements of the same {@link Text#intern(Text) interned} or reused
+     * texts are cheap.</p>
+     *
+     * @param calculator The calculator to wrap
+     * @param <T> The type of command source
+     * @return The caching calculator
+     */
+    static <T extends CommandSource> PaginationCalculator<T> cachingLines(PaginationCalculator<T> calculator) {
+        return new CachingPaginationCalculator<>(calculator);
+    }
+
     /**
      * Get the maxinum number of lines that can be displayed on a source's screen.
      * @param source The source to check
@@ -0,0 +1,123 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.pagination;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkPositionIndexes;
+
+import com.google.common.collect.ImmutableList;
+import org.spongepowered.api.text.Text;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * A source of pagination contents with random access by index.
+ *
+ * <p>Unlike an {@link Iterable} passed to
+ * {@link PaginationBuilder#contents(Iterable)}, a source is never copied or
+ * measured as a whole: only the entries of the page being displayed are
+ * retrieved. This allows paginating very large or generated contents, such
+ * as the rows of a log stored in a database.</p>
+ */
+public interface PaginationSource {
+
+    /**
+     * Creates a source backed by the given list. Changes to the list are
+     * reflected in later pages.
+     *
+     * @param contents The contents
+     * @return The source
+     */
+    static PaginationSource of(List<? extends Text> contents) {
+        checkNotNull(contents, "contents");
+        return new PaginationSource() {
+
+            @Override
+            public int size() {
+                return contents.size();
+            }
+
+            @Override
+            public List<Text> get(int fromIndex, int toIndex) {
+                return Collections.unmodifiableList(contents.subList(fromIndex, toIndex));
+            }
+
+        };
+    }
+
+    /**
+     * Creates a source of the given size, retrieving each entry from the
+     * given function when the page containing it is displayed. The function
+     * is called once per entry of each displayed page.
+     *
+     * @param size The number of entries
+     * @param entries The function returning the entry at an index
+     * @return The source
+     */
+    static PaginationSource of(int size, IntFunction<? extends Text> entries) {
+        checkArgument(size >= 0, "size must not be negative");
+        checkNotNull(entries, "entries");
+        return new PaginationSource() {
+
+            @Override
+            public int size() {
+                return size;
+            }
+
+            @Override
+            public List<Text> get(int fromIndex, int toIndex) {
+                checkPositionIndexes(fromIndex, toIndex, size);
+                ImmutableList.Builder<Text> page = ImmutableList.builder();
+                for (int i = fromIndex; i < toIndex; i++) {
+                    page.add(entries.apply(i));
+                }
+                return page.build();
+            }
+
+        };
+    }
+
+    /**
+     * Gets the total number of entries of this source.
+     *
+     * @return The number of entries
+     */
+    int size();
+
+    /**
+     * Gets the entries between {@code fromIndex}, inclusive, and
+     * {@code toIndex}, exclusive.
+     *
+     * @param fromIndex The index of the first entry
+     * @param toIndex The index after the last entry
+     * @return The entries
+     * @throws IndexOutOfBoundsException If the indexes are out of range
+     */
+    List<Text> get(int fromIndex, int toIndex);
+
+}
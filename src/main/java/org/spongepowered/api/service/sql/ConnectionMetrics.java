@@ -0,0 +1,105 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.sql;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Represents a point-in-time view of the usage of a connection pool, either
+ * for a single {@link PooledDataSource} or aggregated for a plugin.
+ */
+public interface ConnectionMetrics {
+
+    /**
+     * Gets the number of connections currently handed out to callers.
+     *
+     * @return The number of active connections
+     */
+    int getActiveConnections();
+
+    /**
+     * Gets the number of open connections currently waiting in the pool.
+     *
+     * @return The number of idle connections
+     */
+    int getIdleConnections();
+
+    /**
+     * Gets the number of callers currently waiting for a connection.
+     *
+     * @return The number of pending acquisitions
+     */
+    int getPendingAcquisitions();
+
+    /**
+     * Gets the total number of connections acquired since the pool was
+     * created.
+     *
+     * @return The total number of acquisitions
+     */
+    long getTotalAcquisitions();
+
+    /**
+     * Gets the number of connections acquired from the main server thread.
+     *
+     * @return The number of main thread acquisitions
+     */
+    long getMainThreadAcquisitions();
+
+    /**
+     * Gets the mean time callers waited to acquire a connection.
+     *
+     * @param unit The unit to return the time in
+     * @return The mean wait time
+     */
+    long getMeanWaitTime(TimeUnit unit);
+
+    /**
+     * Gets the longest time a caller waited to acquire a connection.
+     *
+     * @param unit The unit to return the time in
+     * @return The maximum wait time
+     */
+    long getMaxWaitTime(TimeUnit unit);
+
+    /**
+     * Gets the mean execution time of statements run on connections of the
+     * pool.
+     *
+     * @param unit The unit to return the time in
+     * @return The mean statement latency
+     */
+    long getMeanStatementLatency(TimeUnit unit);
+
+    /**
+     * Gets the number of statements whose execution time exceeded the
+     * {@link PoolSettings#getSlowQueryThreshold(TimeUnit) slow query
+     * threshold}.
+     *
+     * @return The number of slow queries
+     */
+    long getSlowQueries();
+
+}
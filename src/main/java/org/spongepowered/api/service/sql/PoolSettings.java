@@ -0,0 +1,156 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.sql;
+
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.util.ResettableBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Represents the settings used to configure the connection pool backing a
+ * {@link PooledDataSource}.
+ */
+public interface PoolSettings {
+
+    /**
+     * Creates a new {@link Builder} to build {@link PoolSettings}.
+     *
+     * @return The new builder
+     */
+    static Builder builder() {
+        return Sponge.getRegistry().createBuilder(Builder.class);
+    }
+
+    /**
+     * Gets the minimum number of idle connections the pool tries to keep
+     * open.
+     *
+     * @return The minimum number of idle connections
+     */
+    int getMinimumIdle();
+
+    /**
+     * Gets the maximum number of connections, both idle and in use, the pool
+     * will open.
+     *
+     * @return The maximum pool size
+     */
+    int getMaximumSize();
+
+    /**
+     * Gets the maximum time a caller will wait for a connection before an
+     * {@link java.sql.SQLException} is thrown.
+     *
+     * @param unit The unit to return the timeout in
+     * @return The connection timeout
+     */
+    long getConnectionTimeout(TimeUnit unit);
+
+    /**
+     * Gets the execution time above which a statement is logged as a slow
+     * query. A threshold of 0 disables slow query logging.
+     *
+     * @param unit The unit to return the threshold in
+     * @return The slow query threshold
+     */
+    long getSlowQueryThreshold(TimeUnit unit);
+
+    /**
+     * Gets the {@link MainThreadPolicy} applied when a connection is acquired
+     * from the main server thread.
+     *
+     * @return The main thread policy
+     */
+    MainThreadPolicy getMainThreadPolicy();
+
+    /**
+     * Represents a builder to create {@link PoolSettings}.
+     */
+    interface Builder extends ResettableBuilder<PoolSettings, Builder> {
+
+        /**
+         * Sets the minimum number of idle connections. By default, this is
+         * decided by the service provider.
+         *
+         * @param minimumIdle The minimum number of idle connections
+         * @return This builder, for chaining
+         * @throws IllegalArgumentException If the value is below 0
+         */
+        Builder minimumIdle(int minimumIdle);
+
+        /**
+         * Sets the maximum number of connections in the pool. By default,
+         * this is decided by the service provider.
+         *
+         * @param maximumSize The maximum pool size
+         * @return This builder, for chaining
+         * @throws IllegalArgumentException If the value is below 1
+         */
+        Builder maximumSize(int maximumSize);
+
+        /**
+         * Sets the maximum time to wait for a connection to become available.
+         *
+         * @param timeout The timeout in the given {@link TimeUnit}
+         * @param unit The unit the timeout is in
+         * @return This builder, for chaining
+         * @throws IllegalArgumentException If the timeout is below 0
+         */
+        Builder connectionTimeout(long timeout, TimeUnit unit);
+
+        /**
+         * Sets the execution time above which statements are logged as slow
+         * queries. A threshold of 0, the default, disables slow query
+         * logging.
+         *
+         * @param threshold The threshold in the given {@link TimeUnit}
+         * @param unit The unit the threshold is in
+         * @return This builder, for chaining
+         * @throws IllegalArgumentException If the threshold is below 0
+         */
+        Builder slowQueryThreshold(long threshold, TimeUnit unit);
+
+        /**
+         * Sets the {@link MainThreadPolicy}. By default, this is
+         * {@link MainThreadPolicy#WARN}.
+         *
+         * @param policy The main thread policy
+         * @return This builder, for chaining
+         */
+        Builder mainThreadPolicy(MainThreadPolicy policy);
+
+        /**
+         * Builds the {@link PoolSettings}.
+         *
+         * @return The pool settings
+         * @throws IllegalStateException If the minimum idle count is larger
+         *         than the maximum size
+         */
+        PoolSettings build();
+
+    }
+
+}
@@ -0,0 +1,72 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.sql;
+
+import org.spongepowered.api.plugin.PluginContainer;
+
+import java.io.Closeable;
+
+import javax.sql.DataSource;
+
+/**
+ * Represents a {@link DataSource} backed by a connection pool owned by a
+ * plugin.
+ *
+ * <p>Connections obtained from this data source are returned to the pool
+ * when closed. Acquiring a connection from the main server thread is handled
+ * according to the {@link PoolSettings#getMainThreadPolicy() main thread
+ * policy}.</p>
+ */
+public interface PooledDataSource extends DataSource, Closeable {
+
+    /**
+     * Gets the plugin that owns this data source.
+     *
+     * @return The owning plugin
+     */
+    PluginContainer getOwner();
+
+    /**
+     * Gets the {@link PoolSettings} this data source was created with.
+     *
+     * @return The pool settings
+     */
+    PoolSettings getSettings();
+
+    /**
+     * Gets a snapshot of the {@link ConnectionMetrics} of this data source.
+     *
+     * @return The connection metrics
+     */
+    ConnectionMetrics getMetrics();
+
+    /**
+     * Closes this data source and all connections in its pool. Connections
+     * that are in use are closed when they are returned.
+     */
+    @Override
+    void close();
+
+}
@@ -24,6 +24,8 @@
  */
 package org.spongepowered.api.service.sql;
 
+import org.spongepowered.api.plugin.PluginContainer;
+
 import java.sql.SQLException;
 import java.util.Optional;
 
@@ -59,4 +61,49 @@ public interface SqlService {
      *          or {@link Optional#empty()}
      */
     Optional<String> getConnectionUrlFromAlias(String alias);
+
+    /**
+     * Returns a pooled data source for the provided JDBC connection string or
+     * an alias, owned by the given plugin and using the provider's default
+     * {@link PoolSettings}.
+     *
+     * @param plugin The plugin that owns the data source
+     * @param jdbcConnection The jdbc url or connection alias
+     * @return A pooled data source providing connections to the given URL
+     * @throws SQLException if a connection to the given database could not be established
+     * @throws IllegalArgumentException If the object passed in is not a plugin
+     *         instance
+     * @see #getDataSource(String)
+     */
+    PooledDataSource getPooledDataSource(Object plugin, String jdbcConnection) throws SQLException;
+
+    /**
+     * Returns a pooled data source for the provided JDBC connection string or
+     * an alias, owned by the given plugin and configured with the given
+     * {@link PoolSettings}.
+     *
+     * <p>Each call with the same plugin, connection and settings returns the
+     * same data source. Pools are never shared between plugins, so that the
+     * {@link ConnectionMetrics} of each plugin can be told apart.</p>
+     *
+     * @param plugin The plugin that owns the data source
+     * @param jdbcConnection The jdbc url or connection alias
+     * @param settings The settings of the connection pool
+     * @return A pooled data source providing connections to the given URL
+     * @throws SQLException if a connection to the given database could not be established
+     * @throws IllegalArgumentException If the object passed in is not a plugin
+     *         instance
+     */
+    PooledDataSource getPooledDataSource(Object plugin, String jdbcConnection, PoolSettings settings) throws SQLException;
+
+    /**
+     * Gets the {@link ConnectionMetrics} aggregated over every
+     * {@link PooledDataSource} owned by the given plugin.
+     *
+     * @param plugin The plugin to get the metrics for
+     * @return The connection metrics, if the plugin owns any pooled data
+     *         sources
+     */
+    Optional<ConnectionMetrics> getMetrics(PluginContainer plugin);
+
 }
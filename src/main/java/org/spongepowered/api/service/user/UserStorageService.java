@@ -24,6 +24,7 @@
  */
 package org.spongepowered.api.service.user;
 
+import com.google.common.util.concurrent.ListenableFuture;
 import org.spongepowered.api.profile.GameProfile;
 import org.spongepowered.api.entity.living.player.Player;
 import org.spongepowered.api.entity.living.player.User;
@@ -124,4 +125,36 @@ public interface UserStorageService {
      * @return The result of the request
      */
     Collection<GameProfile> match(String lastKnownName);
+
+    /**
+     * Returns a collection of at most {@code limit} matching
+     * {@link GameProfile}s with stored {@link User} data whose last known user
+     * names start with the given string (case-insensitive), ordered by name.
+     *
+     * <p>Implementations are expected to keep an index of last known names
+     * that is updated as users join or change their name, so that the cost of
+     * this method depends on the number of matches rather than on the number
+     * of stored users. This makes it suitable for tab-completion.</p>
+     *
+     * @param lastKnownName The start of the user name
+     * @param limit The maximum number of profiles to return
+     * @return The result of the request
+     * @throws IllegalArgumentException If the limit is below 0
+     * @see org.spongepowered.api.util.PrefixIndex
+     */
+    Collection<GameProfile> match(String lastKnownName, int limit);
+
+    /**
+     * Returns a collection of at most {@code limit} matching
+     * {@link GameProfile}s with stored {@link User} data whose last known user
+     * names start with the given string (case-insensitive), without blocking
+     * the calling thread.
+     *
+     * @param lastKnownName The start of the user name
+     * @param limit The maximum number of profiles to return
+     * @return The result of the request
+     * @throws IllegalArgumentException If the limit is below 0
+     * @see #match(String, int)
+     */
+    ListenableFuture<Collection<GameProfile>> matchAsync(String lastKnownName, int limit);
 }
@@ -101,8 +101,8 @@ public boolean equals(@Nullable Object o) {
     }
 
     @Override
-    public int hashCode() {
-        return Objects.hashCode(super.hashCode(), this.content);
+    int computeHash() {
+        return Objects.hashCode(super.computeHash(), this.content);
     }
 
     @Override
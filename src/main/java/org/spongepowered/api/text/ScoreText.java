@@ -119,8 +119,13 @@ public boolean equals(@Nullable Object o) {
     }
 
     @Override
-    public int hashCode() {
-        return Objects.hashCode(super.hashCode(), this.score, this.override);
+    boolean computeStable() {
+        return this.override.isPresent() && super.computeStable();
+    }
+
+    @Override
+    int computeHash() {
+        return Objects.hashCode(super.computeHash(), this.score, this.override);
     }
 
     @Override
@@ -28,6 +28,8 @@
 
 import com.google.common.base.Objects;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 import com.google.common.collect.Iterators;
 import com.google.common.reflect.TypeToken;
 import ninja.leaping.configurate.objectmapping.serialize.TypeSerializers;
@@ -46,10 +48,14 @@
 import org.spongepowered.api.text.format.TextStyles;
 import org.spongepowered.api.text.selector.Selector;
 import org.spongepowered.api.text.serializer.TextConfigSerializer;
+import org.spongepowered.api.text.serializer.TextSerializer;
 import org.spongepowered.api.text.serializer.TextSerializers;
 import org.spongepowered.api.text.translation.Translatable;
 import org.spongepowered.api.text.translation.Translation;
+import org.spongepowered.api.util.Tuple;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -58,7 +64,10 @@
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.annotation.Nullable;
 
@@ -101,9 +110,23 @@ public abstract class Text implements TextRepresentable, DataSerializable, Compa
      */
     public static final LiteralText NEW_LINE = new LiteralText(NEW_LINE_STRING);
 
+    /**
+     * Shared unformatted texts for the printable ASCII characters, created on
+     * first use by {@link #of(String)} and {@link #of(char)}.
+     */
+    private static final LiteralText[] ASCII_TEXTS = new LiteralText['~' + 1];
+
+    /**
+     * The interner backing {@link #intern(Text)}.
+     */
+    private static final Interner<Text> INTERNER = Interners.newWeakInterner();
+
     /**
      * A {@link Comparator} for texts that compares the plain text of two text
      * instances.
+     *
+     * <p>The plain text is memoized by {@link #toPlain()}, so sorting only
+     * serializes each text once.</p>
      */
     public static Comparator<Text> PLAIN_COMPARATOR = (text1, text2) -> text1.toPlain().compareTo(text2.toPlain());
 
@@ -119,6 +142,32 @@ public abstract class Text implements TextRepresentable, DataSerializable, Compa
      */
     final Iterable<Text> childrenIterable;
 
+    /**
+     * The serialized forms of this text by serializer and locale, created on
+     * first use by {@link #getSerialized(TextSerializer, Locale)}.
+     */
+    @Nullable private volatile ConcurrentMap<Tuple<TextSerializer, Locale>, Serialized> serialized;
+
+    /**
+     * The cached plain text of this text, computed on first use by
+     * {@link #toPlain()}. Racy publication is safe since strings are
+     * immutable.
+     */
+    @Nullable private String plain;
+
+    /**
+     * The cached hash code of this text, or {@code 0} if it has not been
+     * computed yet or this text is not {@link #isStable() stable}.
+     */
+    private int hash;
+
+    /**
+     * Whether the rendered content of this text can change over time, which
+     * prevents memoizing its plain and serialized forms. {@code 0} if not
+     * computed yet, {@code 1} if stable, {@code -1} otherwise.
+     */
+    private byte stable;
+
     Text() {
         this.format = TextFormat.NONE; // TODO
         this.children = ImmutableList.of();
@@ -253,10 +302,111 @@ public final boolean isEmpty() {
      * Returns a plain text representation of this {@link Text} without any
      * formatting.
      *
+     * <p>The plain text is only computed once per text instance.</p>
+     *
      * @return This text converted to plain text
      */
     public final String toPlain() {
-        return TextSerializers.PLAIN.serialize(this);
+        String plain = this.plain;
+        if (plain == null) {
+            plain = TextSerializers.PLAIN.serialize(this);
+            if (isStable()) {
+                this.plain = plain;
+            }
+        }
+        return plain;
+    }
+
+    /**
+     * Returns the serialized form of this {@link Text} for the given
+     * {@link TextSerializer} and {@link Locale}.
+     *
+     * <p>The text is only serialized the first time this method is called
+     * for a serializer and locale, later calls return the same string. This
+     * makes sending the same text to many receivers cheap.</p>
+     *
+     * @param serializer The serializer to serialize with
+     * @param locale The locale to serialize for
+     * @return The serialized form of this text
+     * @see TextSerializer#serialize(Text, Locale)
+     */
+    public final String getSerialized(TextSerializer serializer, Locale locale) {
+        return getSerializedForm(serializer, locale).string;
+    }
+
+    /**
+     * Returns the serialized form of this {@link Text} for the given
+     * {@link TextSerializer} and {@link Locale}, encoded as UTF-8.
+     *
+     * <p>The text is only serialized and encoded once for a serializer and
+     * locale. The returned buffer is a read-only view of the shared encoded
+     * form, with its own position and limit.</p>
+     *
+     * @param serializer The serializer to serialize with
+     * @param locale The locale to serialize for
+     * @return A read-only buffer containing the encoded form of this text
+     * @see #getSerialized(TextSerializer, Locale)
+     */
+    public final ByteBuffer getSerializedBytes(TextSerializer serializer, Locale locale) {
+        final Serialized form = getSerializedForm(serializer, locale);
+        ByteBuffer bytes = form.bytes;
+        if (bytes == null) {
+            form.bytes = bytes = ByteBuffer.wrap(form.string.getBytes(StandardCharsets.UTF_8)).asReadOnlyBuffer();
+        }
+        return bytes.duplicate();
+    }
+
+    private Serialized getSerializedForm(TextSerializer serializer, Locale locale) {
+        checkNotNull(serializer, "serializer");
+        checkNotNull(locale, "locale");
+        if (!isStable()) {
+            return new Serialized(serializer.serialize(this, locale));
+        }
+        ConcurrentMap<Tuple<TextSerializer, Locale>, Serialized> serialized = this.serialized;
+        if (serialized == null) {
+            synchronized (this) {
+                serialized = this.serialized;
+                if (serialized == null) {
+                    this.serialized = serialized = new ConcurrentHashMap<>(2);
+                }
+            }
+        }
+        return serialized.computeIfAbsent(Tuple.of(serializer, locale), key -> new Serialized(serializer.serialize(this, locale)));
+    }
+
+    /**
+     * Gets whether the rendered content of this text and its children is
+     * fixed, so its plain and serialized forms may be memoized. This is not
+     * the case for texts displaying the current value of a {@link Score}.
+     *
+     * @return Whether this text is stable
+     */
+    final boolean isStable() {
+        byte stable = this.stable;
+        if (stable == 0) {
+            this.stable = stable = computeStable() ? (byte) 1 : -1;
+        }
+        return stable > 0;
+    }
+
+    boolean computeStable() {
+        for (Text child : this.children) {
+            if (!child.isStable()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static final class Serialized {
+
+        final String string;
+        @Nullable volatile ByteBuffer bytes;
+
+        Serialized(String string) {
+            this.string = string;
+        }
+
     }
 
     /**
@@ -307,6 +457,9 @@ public boolean equals(@Nullable Object o) {
         }
 
         Text that = (Text) o;
+        if (this.hash != 0 && that.hash != 0 && this.hash != that.hash) {
+            return false;
+        }
         return this.format.equals(that.format)
                 && this.children.equals(that.children)
                 && this.clickAction.equals(that.clickAction)
@@ -314,8 +467,32 @@ public boolean equals(@Nullable Object o) {
                 && this.shiftClickAction.equals(that.shiftClickAction);
     }
 
+    /**
+     * Returns the hash code of this {@link Text}. The hash code is only
+     * computed once per instance if this text is {@link #isStable() stable},
+     * since it otherwise follows the current content.
+     *
+     * @return The hash code
+     */
     @Override
-    public int hashCode() {
+    public final int hashCode() {
+        int hash = this.hash;
+        if (hash == 0) {
+            hash = computeHash();
+            if (isStable()) {
+                this.hash = hash;
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Computes the hash code of this {@link Text}. Subclasses include their
+     * own content in addition to the result of this method.
+     *
+     * @return The hash code
+     */
+    int computeHash() {
         return Objects.hashCode(this.format, this.children, this.clickAction, this.hoverAction, this.shiftClickAction);
     }
 
@@ -851,6 +1028,8 @@ public static LiteralText of(String content) {
             return LiteralText.EMPTY;
         } else if (content.equals(NEW_LINE_STRING)) {
             return NEW_LINE;
+        } else if (content.length() == 1) {
+            return of(content.charAt(0));
         } else {
             return new LiteralText(content);
         }
@@ -867,11 +1046,35 @@ public static LiteralText of(String content) {
     public static LiteralText of(char content) {
         if (content == NEW_LINE_CHAR) {
             return NEW_LINE;
+        } else if (content >= ' ' && content <= '~') {
+            LiteralText text = ASCII_TEXTS[content];
+            if (text == null) {
+                ASCII_TEXTS[content] = text = new LiteralText(String.valueOf(content));
+            }
+            return text;
         } else {
             return new LiteralText(String.valueOf(content));
         }
     }
 
+    /**
+     * Returns a canonical instance of the given {@link Text}, which is equal
+     * to it. Interning repeated fragments, such as the entries of a
+     * scoreboard or the lines of a paginated list, lets them share memory
+     * along with their memoized hash code, plain text and serialized forms.
+     *
+     * <p>Canonical instances are only weakly referenced and will be
+     * discarded once they are no longer used.</p>
+     *
+     * @param text The text to intern
+     * @param <T> The type of the text
+     * @return The canonical instance of the text
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Text> T intern(T text) {
+        return (T) INTERNER.intern(checkNotNull(text, "text"));
+    }
+
     /**
      * Creates a new unformatted {@link TranslatableText} with the given
      * {@link Translation} and arguments.
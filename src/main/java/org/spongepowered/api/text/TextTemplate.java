@@ -78,7 +78,11 @@ public final class TextTemplate implements TextRepresentable, Iterable<Object> {
 
     final ImmutableList<Object> elements;
     final ImmutableMap<String, Arg> arguments;
+    final ImmutableList<String> argumentNames;
     final Text text;
+    // Elements with static fragments pre-built as Text and arguments
+    // resolved to positional slots
+    private final Object[] compiled;
     final String openArg;
     final String closeArg;
 
@@ -109,6 +113,28 @@ public final class TextTemplate implements TextRepresentable, Iterable<Object> {
         this.elements = elementList.build();
         this.arguments = ImmutableMap.copyOf(argumentMap);
 
+        // resolve arguments to slots in order of first appearance
+        List<String> names = new ArrayList<>();
+        Map<String, Slot> slots = new HashMap<>();
+        this.compiled = new Object[this.elements.size()];
+        for (int i = 0; i < this.compiled.length; i++) {
+            Object element = this.elements.get(i);
+            if (element instanceof Arg) {
+                Arg arg = (Arg) element;
+                Slot slot = slots.get(arg.name);
+                if (slot == null) {
+                    slot = new Slot(names.size(), arg);
+                    slots.put(arg.name, slot);
+                    names.add(arg.name);
+                }
+                element = slot;
+            } else if (!(element instanceof TextElement)) {
+                element = Text.of(element.toString());
+            }
+            this.compiled[i] = element;
+        }
+        this.argumentNames = ImmutableList.copyOf(names);
+
         // build text representation
         Text.Builder builder = null;
         for (Object element : this.elements) {
@@ -135,6 +161,17 @@ public Map<String, Arg> getArguments() {
         return this.arguments;
     }
 
+    /**
+     * Returns the names of the arguments contained within the TextTemplate, in
+     * the order in which they first appear. This is the order in which
+     * parameters are supplied to {@link #applyArgs(Object...)}.
+     *
+     * @return The argument names, in positional order
+     */
+    public List<String> getArgumentNames() {
+        return this.argumentNames;
+    }
+
     /**
      * Returns the string used for containing Args within the template.
      *
@@ -188,35 +225,71 @@ public Text.Builder apply() {
      * @throws TextTemplateArgumentException if required parameters are missing
      */
     public Text.Builder apply(Map<String, TextElement> params) {
-        return apply(null, params);
+        checkNotNull(params, "params");
+        TextElement[] slots = new TextElement[this.argumentNames.size()];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = params.get(this.argumentNames.get(i));
+        }
+        return applySlots(slots);
     }
 
-    private Text.Builder apply(@Nullable Text.Builder result, Map<String, TextElement> params) {
+    /**
+     * Applies the specified positional parameters to this TextTemplate and
+     * returns the result in a {@link Text.Builder}.
+     *
+     * <p>Parameters are matched with arguments in the order given by
+     * {@link #getArgumentNames()}, which is the order in which arguments first
+     * appear in this template. Unlike {@link #apply(Map)}, no argument is
+     * looked up by name, which makes this the preferred way to apply
+     * templates that are rendered very often.</p>
+     *
+     * <p>Parameters that are not {@link TextElement}s are converted using
+     * {@link Text#of(Object...)}. A null parameter, or a parameter that is not
+     * supplied, is treated as missing.</p>
+     *
+     * @param params Parameters to apply, in argument order
+     * @return Text builder containing result
+     * @throws TextTemplateArgumentException if required parameters are missing
+     *         or too many parameters are supplied
+     */
+    public Text.Builder applyArgs(Object... params) {
         checkNotNull(params, "params");
-        for (Object element : this.elements) {
-            result = apply(element, result, params);
+        if (params.length > this.argumentNames.size()) {
+            throw new TextTemplateArgumentException("Tried to supply " + params.length + " parameters to a TextTemplate with "
+                    + this.argumentNames.size() + " arguments.");
+        }
+        TextElement[] slots = new TextElement[this.argumentNames.size()];
+        for (int i = 0; i < params.length; i++) {
+            Object param = params[i];
+            if (param instanceof TextElement) {
+                slots[i] = (TextElement) param;
+            } else if (param != null) {
+                slots[i] = Text.of(param);
+            }
         }
-        return Optional.ofNullable(result).orElse(Text.builder());
+        return applySlots(slots);
     }
 
-    @Nullable
-    private Text.Builder apply(Object element, @Nullable Text.Builder builder, Map<String, TextElement> params) {
+    private Text.Builder applySlots(TextElement[] params) {
         // Note: The builder is initialized as null to avoid unnecessary Text nesting
-        if (element instanceof Arg) {
-            Arg arg = (Arg) element;
-            TextElement param = params.get(arg.name);
-            if (param == null) {
-                arg.checkOptional();
-                if (arg.defaultValue != null) {
-                    builder = applyArg(arg.defaultValue, arg, builder);
+        Text.Builder builder = null;
+        for (Object element : this.compiled) {
+            if (element instanceof Slot) {
+                Slot slot = (Slot) element;
+                TextElement param = params[slot.index];
+                if (param == null) {
+                    slot.arg.checkOptional();
+                    if (slot.defaultText != null) {
+                        builder = apply(slot.defaultText, builder);
+                    }
+                } else {
+                    builder = applyArg(param, slot.arg, builder);
                 }
             } else {
-                builder = applyArg(param, arg, builder);
+                builder = apply(element, builder);
             }
-        } else {
-            builder = apply(element, builder);
         }
-        return builder;
+        return Optional.ofNullable(builder).orElse(Text.builder());
     }
 
     private Text.Builder applyArg(TextElement param, Arg arg, @Nullable Text.Builder builder) {
@@ -374,6 +447,24 @@ public boolean equals(Object obj) {
                 && that.closeArg.equals(this.closeArg);
     }
 
+    /**
+     * A positional argument slot of a compiled template.
+     */
+    private static final class Slot {
+
+        final int index;
+        final Arg arg;
+        @Nullable final Text defaultText;
+
+        Slot(int index, Arg arg) {
+            this.index = index;
+            this.arg = arg;
+            // the default value is wrapped in the argument format only once
+            this.defaultText = arg.defaultValue == null ? null : Text.builder().format(arg.format).append(arg.defaultValue).build();
+        }
+
+    }
+
     /**
      * Represents a variable element within a TextTemplate. Arguments are
      * replaced by parameters in {@link #apply(Map)}.
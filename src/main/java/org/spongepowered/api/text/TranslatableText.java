@@ -117,8 +117,23 @@ public boolean equals(@Nullable Object o) {
     }
 
     @Override
-    public int hashCode() {
-        return Objects.hashCode(super.hashCode(), this.translation, this.arguments);
+    boolean computeStable() {
+        for (Object argument : this.arguments) {
+            if (argument instanceof Text) {
+                if (!((Text) argument).isStable()) {
+                    return false;
+                }
+            } else if (!(argument instanceof String || argument instanceof Number || argument instanceof Character
+                    || argument instanceof Boolean)) {
+                return false;
+            }
+        }
+        return super.computeStable();
+    }
+
+    @Override
+    int computeHash() {
+        return Objects.hashCode(super.computeHash(), this.translation, this.arguments);
     }
 
     @Override
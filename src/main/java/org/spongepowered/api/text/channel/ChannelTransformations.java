@@ -0,0 +1,73 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text.channel;
+
+import org.spongepowered.api.text.Text;
+
+/**
+ * Detects whether a {@link MessageChannel} implementation overrides
+ * {@link MessageChannel#transformMessage(Object, MessageReceiver, Text)}.
+ *
+ * <p>The declaring class of the method is computed once per channel
+ * class. Channels that override {@link MessageChannel#isTransforming()}
+ * should still consult {@link #overridesTransform(MessageChannel, Class)}
+ * so subclasses that transform messages are not skipped.</p>
+ */
+public final class ChannelTransformations {
+
+    private static final ClassValue<Class<?>> DECLARING = new ClassValue<Class<?>>() {
+
+        @Override
+        protected Class<?> computeValue(Class<?> type) {
+            try {
+                return type.getMethod("transformMessage", Object.class, MessageReceiver.class, Text.class).getDeclaringClass();
+            } catch (NoSuchMethodException e) {
+                return type;
+            }
+        }
+
+    };
+
+    /**
+     * Gets whether the class of the given channel overrides
+     * {@link MessageChannel#transformMessage(Object, MessageReceiver, Text)}
+     * beyond the implementation in the given base class.
+     *
+     * @param channel The channel to check
+     * @param base The class whose implementation is known
+     * @return True if a subclass of the base overrides the method
+     */
+    public static boolean overridesTransform(MessageChannel channel, Class<? extends MessageChannel> base) {
+        return DECLARING.get(channel.getClass()) != base;
+    }
+
+    static boolean overridesTransform(MessageChannel channel) {
+        return overridesTransform(channel, MessageChannel.class);
+    }
+
+    private ChannelTransformations() {
+    }
+
+}
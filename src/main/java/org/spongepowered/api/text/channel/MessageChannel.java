@@ -52,8 +52,12 @@ public interface MessageChannel {
     MessageChannel TO_NONE = ImmutableSet::of;
     /**
      * A channel with all online players as members.
+     *
+     * <p>The members are the server's
+     * {@link org.spongepowered.api.Server#getOnlinePlayersSnapshot() online
+     * player snapshot}, which is returned without copying.</p>
      */
-    MessageChannel TO_PLAYERS = () -> ImmutableSet.copyOf(Sponge.getGame().getServer().getOnlinePlayers());
+    MessageChannel TO_PLAYERS = () -> ImmutableSet.copyOf(Sponge.getGame().getServer().getOnlinePlayersSnapshot());
     /**
      * A channel with the server console as a member.
      */
@@ -136,11 +140,24 @@ default void send(Text original) {
     /**
      * Send a message to this channel, transforming and sending it to the members.
      *
+     * <p>If this channel is not {@link #isTransforming() transforming}, the
+     * same {@code original} instance is sent to every member without
+     * consulting {@link #transformMessage(Object, MessageReceiver, Text)}.
+     * Since {@link Text#getSerialized(org.spongepowered.api.text.serializer.TextSerializer, java.util.Locale)}
+     * is memoized on the instance, the message is then only encoded once per
+     * locale for the whole broadcast.</p>
+     *
      * @param sender The sender of the message
      * @param original The original message to send
      */
     default void send(@Nullable Object sender, Text original) {
         checkNotNull(original, "original text");
+        if (!this.isTransforming()) {
+            for (MessageReceiver member : this.getMembers()) {
+                member.sendMessage(original);
+            }
+            return;
+        }
         for (MessageReceiver member : this.getMembers()) {
             this.transformMessage(sender, member, original).ifPresent(member::sendMessage);
         }
@@ -159,6 +176,22 @@ default Optional<Text> transformMessage(@Nullable Object sender, MessageReceiver
         return Optional.of(original);
     }
 
+    /**
+     * Gets whether this channel may alter or drop messages for individual
+     * members in {@link #transformMessage(Object, MessageReceiver, Text)}.
+     *
+     * <p>By default a channel is transforming if its class overrides
+     * {@link #transformMessage(Object, MessageReceiver, Text)}; the check is
+     * made once per class. Channels that wrap other channels should delegate
+     * to them, while still reporting overrides made by their own subclasses
+     * through {@link ChannelTransformations}.</p>
+     *
+     * @return Whether messages may be transformed per member
+     */
+    default boolean isTransforming() {
+        return ChannelTransformations.overridesTransform(this);
+    }
+
     /**
      * Gets a collection of all members in this channel.
      *
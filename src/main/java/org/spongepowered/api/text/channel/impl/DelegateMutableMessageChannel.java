@@ -28,6 +28,7 @@
 
 import org.spongepowered.api.text.Text;
 import org.spongepowered.api.text.channel.AbstractMutableMessageChannel;
+import org.spongepowered.api.text.channel.ChannelTransformations;
 import org.spongepowered.api.text.channel.MessageChannel;
 import org.spongepowered.api.text.channel.MessageReceiver;
 
@@ -54,4 +55,9 @@ public Optional<Text> transformMessage(@Nullable Object sender, MessageReceiver
         return this.delegate.transformMessage(sender, recipient, original);
     }
 
+    @Override
+    public boolean isTransforming() {
+        return ChannelTransformations.overridesTransform(this, DelegateMutableMessageChannel.class) || this.delegate.isTransforming();
+    }
+
 }
@@ -26,11 +26,12 @@
 
 import static org.apache.commons.lang3.Validate.noNullElements;
 
+import com.google.common.collect.ImmutableCollection;
 import com.google.common.collect.ImmutableSet;
 import org.spongepowered.api.text.Text;
+import org.spongepowered.api.text.channel.ChannelTransformations;
 import org.spongepowered.api.text.channel.MessageChannel;
 import org.spongepowered.api.text.channel.MessageReceiver;
-import org.spongepowered.api.util.GuavaCollectors;
 
 import java.util.Arrays;
 import java.util.Collection;
@@ -48,6 +49,7 @@
 public class CombinedMessageChannel implements MessageChannel {
 
     protected final Collection<MessageChannel> channels;
+    @Nullable private volatile MemberUnion union;
 
     public CombinedMessageChannel(MessageChannel... channels) {
         this(Arrays.asList(channels));
@@ -68,11 +70,70 @@ public Optional<Text> transformMessage(@Nullable Object sender, MessageReceiver
         return Optional.ofNullable(text);
     }
 
+    @Override
+    public boolean isTransforming() {
+        if (ChannelTransformations.overridesTransform(this, CombinedMessageChannel.class)) {
+            return true;
+        }
+        for (MessageChannel channel : this.channels) {
+            if (channel.isTransforming()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
     @Override
     public Collection<MessageReceiver> getMembers() {
-        return this.channels.stream()
-                .flatMap(channel -> channel.getMembers().stream())
-                .collect(GuavaCollectors.toImmutableSet());
+        if (this.channels.size() == 1) {
+            return this.channels.iterator().next().getMembers();
+        }
+        final Collection<?>[] parts = new Collection<?>[this.channels.size()];
+        int i = 0;
+        for (MessageChannel channel : this.channels) {
+            parts[i++] = channel.getMembers();
+        }
+        final MemberUnion union = this.union;
+        if (union != null && union.isUnionOf(parts)) {
+            return union.members;
+        }
+        ImmutableSet.Builder<MessageReceiver> members = ImmutableSet.builder();
+        for (Collection<?> part : parts) {
+            members.addAll((Collection<? extends MessageReceiver>) part);
+        }
+        final ImmutableSet<MessageReceiver> built = members.build();
+        this.union = new MemberUnion(parts, built);
+        return built;
+    }
+
+    /**
+     * The last union of member collections, which is reused while every
+     * channel keeps returning the same immutable collection instances.
+     */
+    private static final class MemberUnion {
+
+        final Collection<?>[] parts;
+        final ImmutableSet<MessageReceiver> members;
+
+        MemberUnion(Collection<?>[] parts, ImmutableSet<MessageReceiver> members) {
+            this.parts = parts;
+            this.members = members;
+        }
+
+        boolean isUnionOf(Collection<?>[] parts) {
+            if (parts.length != this.parts.length) {
+                return false;
+            }
+            for (int i = 0; i < parts.length; i++) {
+                // Only immutable collections are guaranteed to keep their contents
+                if (parts[i] != this.parts[i] || !(parts[i] instanceof ImmutableCollection)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
     }
 
 }
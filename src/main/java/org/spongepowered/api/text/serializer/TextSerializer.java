@@ -26,6 +26,9 @@
 
 import org.spongepowered.api.text.Text;
 
+import java.io.IOException;
+import java.util.Locale;
+
 /**
  * Represents a serializer for {@link Text} instances that converts an input
  * string into a formatted {@link Text} instance, or a {@link Text} instance
@@ -43,6 +46,43 @@ public interface TextSerializer {
      */
     String serialize(Text text);
 
+    /**
+     * Returns a string representation of the provided {@link Text} for the
+     * given {@link Locale}, in a format that will be accepted by this
+     * {@link TextSerializer}'s {@link #deserialize(String)} method.
+     *
+     * <p>Serializers that do not depend on the locale, which is the default,
+     * return the same as {@link #serialize(Text)}.</p>
+     *
+     * <p>To serialize a text that is sent to many receivers, prefer
+     * {@link Text#getSerialized(TextSerializer, Locale)}, which only
+     * serializes the text once.</p>
+     *
+     * @param text The text to serialize
+     * @param locale The locale to serialize for
+     * @return The string representation of this text
+     */
+    default String serialize(Text text, Locale locale) {
+        return serialize(text);
+    }
+
+    /**
+     * Appends the string representation of the provided {@link Text} to the
+     * given {@link Appendable}, in a format that will be accepted by this
+     * {@link TextSerializer}'s {@link #deserialize(String)} method.
+     *
+     * <p>Implementations should write to the target directly rather than
+     * building an intermediate string.</p>
+     *
+     * @param text The text to serialize
+     * @param locale The locale to serialize for
+     * @param target The target to append the string representation to
+     * @throws IOException If appending to the target fails
+     */
+    default void serialize(Text text, Locale locale, Appendable target) throws IOException {
+        target.append(serialize(text, locale));
+    }
+
     /**
      * Returns a {@link Text} instance from an appropriately formatted string.
      *
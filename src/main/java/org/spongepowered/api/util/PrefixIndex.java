@@ -0,0 +1,201 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import javax.annotation.Nullable;
+
+/**
+ * A thread-safe, case-insensitive index of values by name, supporting exact
+ * and prefix lookups. Names are compared in lower case using
+ * {@link Locale#ENGLISH}, like the other command and name matching in the
+ * API, so the result does not depend on the default locale.
+ *
+ * <p>Names are kept sorted, so a prefix lookup only visits the names that
+ * actually start with the prefix, regardless of the size of the index. The
+ * index is updated incrementally and may be read while it is modified.</p>
+ *
+ * @param <V> The type of the indexed values
+ */
+public final class PrefixIndex<V> {
+
+    private final ConcurrentNavigableMap<String, Set<V>> entries = new ConcurrentSkipListMap<>();
+
+    private static String normalize(String name) {
+        return checkNotNull(name, "name").toLowerCase(Locale.ENGLISH);
+    }
+
+    /**
+     * Adds a value to the index under the given name.
+     *
+     * @param name The name
+     * @param value The value
+     */
+    public void put(String name, V value) {
+        checkNotNull(value, "value");
+        this.entries.compute(normalize(name), (key, values) -> {
+            if (values == null) {
+                return ImmutableSet.of(value);
+            }
+            if (values.contains(value)) {
+                return values;
+            }
+            return ImmutableSet.<V>builder().addAll(values).add(value).build();
+        });
+    }
+
+    /**
+     * Removes a value from the index under the given name.
+     *
+     * @param name The name
+     * @param value The value
+     * @return Whether the value was indexed under the name
+     */
+    public boolean remove(String name, V value) {
+        checkNotNull(value, "value");
+        final String key = normalize(name);
+        // The remapping functions of ConcurrentSkipListMap may be retried, so
+        // the outcome is decided by an explicit compare and set loop instead
+        while (true) {
+            final Set<V> values = this.entries.get(key);
+            if (values == null || !values.contains(value)) {
+                return false;
+            }
+            if (values.size() == 1) {
+                if (this.entries.remove(key, values)) {
+                    return true;
+                }
+                continue;
+            }
+            final ImmutableSet.Builder<V> builder = ImmutableSet.builder();
+            for (V other : values) {
+                if (!other.equals(value)) {
+                    builder.add(other);
+                }
+            }
+            if (this.entries.replace(key, values, builder.build())) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Moves a value from its previous name to a new name, for example when
+     * the last known name of a player changes.
+     *
+     * @param oldName The previous name, or null if the value was not indexed
+     * @param newName The new name
+     * @param value The value
+     */
+    public void rename(@Nullable String oldName, String newName, V value) {
+        if (oldName != null) {
+            if (normalize(oldName).equals(normalize(newName))) {
+                return;
+            }
+            remove(oldName, value);
+        }
+        put(newName, value);
+    }
+
+    /**
+     * Gets the values indexed under exactly the given name
+     * (case-insensitive).
+     *
+     * @param name The name
+     * @return The values, or an empty set if there are none
+     */
+    public Set<V> get(String name) {
+        final Set<V> values = this.entries.get(normalize(name));
+        return values == null ? ImmutableSet.of() : values;
+    }
+
+    /**
+     * Gets the values whose names start with the given prefix
+     * (case-insensitive), in order of their names.
+     *
+     * @param prefix The prefix
+     * @param limit The maximum number of values to return
+     * @return The matching values
+     * @throws IllegalArgumentException If the limit is below 0
+     */
+    public ImmutableList<V> match(String prefix, int limit) {
+        checkArgument(limit >= 0, "limit must be at least 0");
+        final String normalized = normalize(prefix);
+        final ImmutableList.Builder<V> builder = ImmutableList.builder();
+        int count = 0;
+        for (Map.Entry<String, Set<V>> entry : this.entries.tailMap(normalized).entrySet()) {
+            if (count >= limit || !entry.getKey().startsWith(normalized)) {
+                break;
+            }
+            for (V value : entry.getValue()) {
+                if (count >= limit) {
+                    break;
+                }
+                builder.add(value);
+                count++;
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Gets all values whose names start with the given prefix
+     * (case-insensitive), in order of their names.
+     *
+     * @param prefix The prefix
+     * @return The matching values
+     */
+    public ImmutableList<V> match(String prefix) {
+        return match(prefix, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Gets the number of distinct names in this index.
+     *
+     * @return The number of names
+     */
+    public int size() {
+        return this.entries.size();
+    }
+
+    /**
+     * Removes all values from this index.
+     */
+    public void clear() {
+        this.entries.clear();
+    }
+
+}
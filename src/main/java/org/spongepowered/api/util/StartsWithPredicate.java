@@ -24,6 +24,7 @@
  */
 package org.spongepowered.api.util;
 
+import java.util.Locale;
 import java.util.function.Predicate;
 
 import javax.annotation.Nullable;
@@ -45,6 +46,6 @@ public StartsWithPredicate(String test) {
 
     @Override
     public boolean test(@Nullable String input) {
-        return input != null && input.toLowerCase().startsWith(this.test.toLowerCase());
+        return input != null && input.toLowerCase(Locale.ENGLISH).startsWith(this.test.toLowerCase(Locale.ENGLISH));
     }
 }
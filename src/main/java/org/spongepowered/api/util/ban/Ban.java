@@ -152,17 +152,39 @@ interface Profile extends Ban {
     }
 
     /**
-     * Represents a ban made on an IP.
+     * Represents a ban made on an IP, or on a range of IPs.
      */
     interface Ip extends Ban {
 
         /**
-         * Gets the address this ban applies to.
+         * Gets the address this ban applies to. For a range ban, this is the
+         * address of the banned subnet.
          *
          * @return The address
          */
         InetAddress getAddress();
 
+        /**
+         * Gets the number of leading bits of the {@link #getAddress() address}
+         * that identify the banned subnet. A ban on a single address has a
+         * prefix length of 32 for IPv4 and 128 for IPv6 addresses.
+         *
+         * @return The prefix length
+         */
+        default int getPrefixLength() {
+            return this.getAddress().getAddress().length * 8;
+        }
+
+        /**
+         * Gets whether this ban applies to a range of addresses rather than
+         * a single address.
+         *
+         * @return True if this is a range ban
+         */
+        default boolean isRange() {
+            return this.getPrefixLength() < this.getAddress().getAddress().length * 8;
+        }
+
     }
 
     /**
@@ -190,6 +212,22 @@ interface Builder extends ResettableBuilder<Ban, Builder> {
          */
         Builder address(InetAddress address);
 
+        /**
+         * Sets the IP address range to be banned, in CIDR notation. For
+         * example, {@code 192.168.0.0/16} is set with the address
+         * {@code 192.168.0.0} and a prefix length of 16.
+         *
+         * <p>This can only be done if the {@link BanType} has been set to {@link BanTypes#IP}.</p>
+         *
+         * @param address The address of the subnet
+         * @param prefixLength The number of leading bits of the address that
+         *        identify the subnet
+         * @return This builder
+         * @throws IllegalArgumentException If the prefix length is negative
+         *         or longer than the address
+         */
+        Builder subnet(InetAddress address, int prefixLength);
+
         /**
          * Sets the type of the ban.
          *
@@ -0,0 +1,389 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.ban;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.net.InetAddress;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+
+/**
+ * A thread-safe index of values by IP subnet, backed by a path compressed
+ * binary radix tree (a PATRICIA tree) over the bits of the address.
+ *
+ * <p>Only subnets and the points where subnets diverge are kept as nodes,
+ * so runs of bits shared by all subnets below a node are skipped in a single
+ * step. The tree has fewer than two nodes per indexed subnet, and a lookup
+ * visits at most one node per indexed subnet containing the address, plus
+ * branching nodes, which is bounded by the length of the address (32 bits for
+ * IPv4, 128 bits for IPv6) and does not depend on the number of indexed
+ * subnets. A single address is indexed as a subnet with a prefix length
+ * equal to the length of the address.</p>
+ *
+ * @param <V> The type of the indexed values, usually {@link Ban.Ip}
+ */
+public final class SubnetIndex<V> {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Node<V> ipv4 = new Node<>(new byte[4], 0);
+    private final Node<V> ipv6 = new Node<>(new byte[16], 0);
+    private int size;
+
+    private static int bit(byte[] address, int index) {
+        return (address[index >> 3] >> (7 - (index & 7))) & 1;
+    }
+
+    /**
+     * Gets the number of leading bits, up to the given maximum, that are
+     * equal in both addresses.
+     */
+    private static int commonPrefixLength(byte[] a, byte[] b, int max) {
+        for (int i = 0; i << 3 < max; i++) {
+            final int diff = (a[i] ^ b[i]) & 0xff;
+            if (diff != 0) {
+                return Math.min(max, (i << 3) + Integer.numberOfLeadingZeros(diff) - 24);
+            }
+        }
+        return max;
+    }
+
+    private static boolean matches(Node<?> node, byte[] address) {
+        return commonPrefixLength(node.key, address, node.length) == node.length;
+    }
+
+    private static int checkPrefixLength(byte[] address, int prefixLength) {
+        checkArgument(prefixLength >= 0 && prefixLength <= address.length * 8, "prefix length %s is out of bounds for %s bit address",
+                prefixLength, address.length * 8);
+        return prefixLength;
+    }
+
+    private Node<V> root(byte[] address) {
+        return address.length == 4 ? this.ipv4 : this.ipv6;
+    }
+
+    /**
+     * Adds a value for the given subnet, replacing the previous value of the
+     * subnet.
+     *
+     * @param address The address of the subnet, bits after the prefix are
+     *        ignored
+     * @param prefixLength The number of leading bits of the address that
+     *        identify the subnet
+     * @param value The value
+     * @return The previous value of the subnet, if available
+     * @throws IllegalArgumentException If the prefix length is negative or
+     *         longer than the address
+     */
+    public Optional<V> put(InetAddress address, int prefixLength, V value) {
+        checkNotNull(value, "value");
+        final byte[] bytes = checkNotNull(address, "address").getAddress();
+        checkPrefixLength(bytes, prefixLength);
+        this.lock.writeLock().lock();
+        try {
+            final V previous = put(root(bytes), bytes, prefixLength, value);
+            if (previous == null) {
+                this.size++;
+            }
+            return Optional.ofNullable(previous);
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    @Nullable
+    private static <V> V put(Node<V> root, byte[] address, int prefixLength, V value) {
+        Node<V> node = root;
+        while (node.length < prefixLength) {
+            final int bit = bit(address, node.length);
+            final Node<V> child = node.children[bit];
+            if (child == null) {
+                node.children[bit] = new Node<>(address, prefixLength, value);
+                return null;
+            }
+            final int common = commonPrefixLength(child.key, address, Math.min(child.length, prefixLength));
+            if (common == child.length) {
+                node = child;
+                continue;
+            }
+            // The child diverges from the subnet, so a node is inserted where they split
+            final Node<V> split;
+            if (common == prefixLength) {
+                split = new Node<>(address, prefixLength, value);
+            } else {
+                split = new Node<>(address, common);
+                split.children[bit(address, common)] = new Node<>(address, prefixLength, value);
+            }
+            split.children[bit(child.key, common)] = child;
+            node.children[bit] = split;
+            return null;
+        }
+        final V previous = node.value;
+        node.value = value;
+        return previous;
+    }
+
+    /**
+     * Adds a value for a single address.
+     *
+     * @param address The address
+     * @param value The value
+     * @return The previous value of the address, if available
+     */
+    public Optional<V> put(InetAddress address, V value) {
+        return put(address, address.getAddress().length * 8, value);
+    }
+
+    /**
+     * Removes the value of exactly the given subnet.
+     *
+     * @param address The address of the subnet
+     * @param prefixLength The prefix length of the subnet
+     * @return The removed value, if available
+     * @throws IllegalArgumentException If the prefix length is negative or
+     *         longer than the address
+     */
+    public Optional<V> remove(InetAddress address, int prefixLength) {
+        final byte[] bytes = checkNotNull(address, "address").getAddress();
+        checkPrefixLength(bytes, prefixLength);
+        this.lock.writeLock().lock();
+        try {
+            final Node<V> root = root(bytes);
+            final V removed;
+            if (prefixLength == 0) {
+                removed = root.value;
+                root.value = null;
+            } else {
+                removed = remove(root, bytes, prefixLength);
+            }
+            if (removed != null) {
+                this.size--;
+            }
+            return Optional.ofNullable(removed);
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    @Nullable
+    private static <V> V remove(Node<V> node, byte[] address, int prefixLength) {
+        final int bit = bit(address, node.length);
+        final Node<V> child = node.children[bit];
+        if (child == null || child.length > prefixLength || !matches(child, address)) {
+            return null;
+        }
+        final V value;
+        if (child.length == prefixLength) {
+            value = child.value;
+            child.value = null;
+        } else {
+            value = remove(child, address, prefixLength);
+        }
+        node.children[bit] = child.compact();
+        return value;
+    }
+
+    /**
+     * Gets the value of exactly the given subnet.
+     *
+     * @param address The address of the subnet
+     * @param prefixLength The prefix length of the subnet
+     * @return The value, if available
+     * @throws IllegalArgumentException If the prefix length is negative or
+     *         longer than the address
+     */
+    public Optional<V> getExact(InetAddress address, int prefixLength) {
+        final byte[] bytes = checkNotNull(address, "address").getAddress();
+        checkPrefixLength(bytes, prefixLength);
+        this.lock.readLock().lock();
+        try {
+            Node<V> node = root(bytes);
+            while (node.length < prefixLength) {
+                node = node.children[bit(bytes, node.length)];
+                if (node == null || node.length > prefixLength || !matches(node, bytes)) {
+                    return Optional.empty();
+                }
+            }
+            return Optional.ofNullable(node.value);
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the value of the most specific subnet containing the given
+     * address.
+     *
+     * @param address The address
+     * @return The value, if any subnet contains the address
+     */
+    public Optional<V> get(InetAddress address) {
+        return get(address, value -> true);
+    }
+
+    /**
+     * Gets the value of the most specific subnet containing the given address
+     * whose value matches the given filter, for example to skip expired bans.
+     *
+     * @param address The address
+     * @param filter The filter values must match
+     * @return The value, if any matching subnet contains the address
+     */
+    public Optional<V> get(InetAddress address, Predicate<? super V> filter) {
+        final byte[] bytes = checkNotNull(address, "address").getAddress();
+        checkNotNull(filter, "filter");
+        this.lock.readLock().lock();
+        try {
+            V match = null;
+            Node<V> node = root(bytes);
+            final int length = bytes.length * 8;
+            while (node != null && matches(node, bytes)) {
+                if (node.value != null && filter.test(node.value)) {
+                    match = node.value;
+                }
+                if (node.length == length) {
+                    break;
+                }
+                node = node.children[bit(bytes, node.length)];
+            }
+            return Optional.ofNullable(match);
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Removes all values matching the given predicate, for example all
+     * expired bans.
+     *
+     * @param predicate The predicate values to remove match
+     * @return The number of removed values
+     */
+    public int removeIf(Predicate<? super V> predicate) {
+        checkNotNull(predicate, "predicate");
+        this.lock.writeLock().lock();
+        try {
+            final int removed = removeIf(this.ipv4, predicate) + removeIf(this.ipv6, predicate);
+            this.size -= removed;
+            return removed;
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    private static <V> int removeIf(Node<V> node, Predicate<? super V> predicate) {
+        int removed = 0;
+        if (node.value != null && predicate.test(node.value)) {
+            node.value = null;
+            removed++;
+        }
+        for (int bit = 0; bit < 2; bit++) {
+            final Node<V> child = node.children[bit];
+            if (child != null) {
+                removed += removeIf(child, predicate);
+                node.children[bit] = child.compact();
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Gets the number of subnets in this index.
+     *
+     * @return The number of subnets
+     */
+    public int size() {
+        this.lock.readLock().lock();
+        try {
+            return this.size;
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Removes all subnets from this index.
+     */
+    public void clear() {
+        this.lock.writeLock().lock();
+        try {
+            this.ipv4.clear();
+            this.ipv6.clear();
+            this.size = 0;
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * A node of the tree, covering the subnet of the first {@link #length}
+     * bits of its {@link #key}. The children are indexed by the bit of the
+     * address directly after the subnet and may skip any number of bits.
+     */
+    private static final class Node<V> {
+
+        final byte[] key;
+        final int length;
+        @SuppressWarnings("unchecked")
+        final Node<V>[] children = new Node[2];
+        @Nullable V value;
+
+        Node(byte[] key, int length) {
+            this.key = key;
+            this.length = length;
+        }
+
+        Node(byte[] key, int length, V value) {
+            this(key, length);
+            this.value = value;
+        }
+
+        /**
+         * Gets the node that should replace this node in its parent once its
+         * value or children changed, removing nodes that no longer hold a
+         * value or branch.
+         */
+        @Nullable
+        Node<V> compact() {
+            if (this.value != null || (this.children[0] != null && this.children[1] != null)) {
+                return this;
+            }
+            return this.children[0] != null ? this.children[0] : this.children[1];
+        }
+
+        void clear() {
+            this.value = null;
+            this.children[0] = null;
+            this.children[1] = null;
+        }
+
+    }
+
+}
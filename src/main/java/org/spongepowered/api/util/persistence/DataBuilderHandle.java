@@ -0,0 +1,121 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.persistence;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.Objects;
+import org.spongepowered.api.data.DataManager;
+import org.spongepowered.api.data.DataSerializable;
+import org.spongepowered.api.data.DataView;
+
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+/**
+ * A handle to the {@link DataBuilder} of a {@link DataSerializable} class,
+ * resolved from a {@link DataManager} on first use and reused afterwards.
+ *
+ * <p>Handles are meant to be cached by callers that repeatedly deserialize
+ * the same type, such as
+ * {@link DataView#getSerializableList(org.spongepowered.api.data.DataQuery,
+ * DataBuilderHandle)}, to avoid resolving the builder per element. While no
+ * builder is registered, every use attempts to resolve it again.</p>
+ *
+ * @param <T> The type of data serializable
+ */
+public final class DataBuilderHandle<T extends DataSerializable> {
+
+    /**
+     * Creates a new handle resolving the builder for the given class from
+     * the given {@link DataManager}.
+     *
+     * @param manager The data manager to resolve the builder from
+     * @param clazz The class of the data serializable
+     * @param <T> The type of data serializable
+     * @return The new handle
+     */
+    public static <T extends DataSerializable> DataBuilderHandle<T> of(DataManager manager, Class<T> clazz) {
+        return new DataBuilderHandle<>(checkNotNull(manager, "manager"), checkNotNull(clazz, "clazz"));
+    }
+
+    private final DataManager manager;
+    private final Class<T> clazz;
+    @Nullable private volatile DataBuilder<T> builder;
+
+    private DataBuilderHandle(DataManager manager, Class<T> clazz) {
+        this.manager = manager;
+        this.clazz = clazz;
+    }
+
+    /**
+     * Gets the class of the {@link DataSerializable} this handle builds.
+     *
+     * @return The data serializable class
+     */
+    public Class<T> getSerializableClass() {
+        return this.clazz;
+    }
+
+    /**
+     * Gets the resolved {@link DataBuilder}, if one is registered.
+     *
+     * @return The builder, if available
+     */
+    public Optional<DataBuilder<T>> getBuilder() {
+        DataBuilder<T> builder = this.builder;
+        if (builder == null) {
+            builder = this.manager.getBuilder(this.clazz).orElse(null);
+            this.builder = builder;
+        }
+        return Optional.ofNullable(builder);
+    }
+
+    /**
+     * Attempts to build the {@link DataSerializable} from the given
+     * {@link DataView}. If no {@link DataBuilder} is registered,
+     * {@link Optional#empty()} is returned.
+     *
+     * @param view The view containing the raw data
+     * @return The data serializable, if available
+     * @throws InvalidDataException If the builder is unable to construct
+     *     the data serializable from the view
+     */
+    public Optional<T> build(DataView view) throws InvalidDataException {
+        checkNotNull(view, "view");
+        final Optional<DataBuilder<T>> builder = getBuilder();
+        return builder.isPresent() ? builder.get().build(view) : Optional.empty();
+    }
+
+    @Override
+    public String toString() {
+        return Objects.toStringHelper(this)
+                .add("class", this.clazz)
+                .add("resolved", this.builder != null)
+                .toString();
+    }
+
+}
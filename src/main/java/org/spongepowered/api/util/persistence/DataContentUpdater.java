@@ -24,9 +24,42 @@
  */
 package org.spongepowered.api.util.persistence;
 
+import org.spongepowered.api.data.DataQuery;
 import org.spongepowered.api.data.DataView;
 import org.spongepowered.api.util.Updater;
 
+import java.util.Optional;
+import java.util.Set;
+
 public interface DataContentUpdater extends Updater<DataView> {
 
+    /**
+     * Gets whether {@link #update(Object)} modifies and returns the provided
+     * {@link DataView} rather than returning an updated copy.
+     *
+     * <p>Several in place updaters composed into a
+     * {@link DataContentUpdaterChain} share a single copy of the content
+     * instead of producing one copy per version step.</p>
+     *
+     * @return True if this updater modifies the provided view in place
+     */
+    default boolean updatesInPlace() {
+        return false;
+    }
+
+    /**
+     * Gets the {@link DataQuery}s of all the subtrees this updater reads or
+     * writes, relative to the updated view, if they are known.
+     *
+     * <p>A {@link DataContentUpdaterChain} only passes those subtrees to an
+     * updater that declares them, so the rest of the content is not copied
+     * for that version step. Updaters that may touch any part of the view
+     * should return {@link Optional#empty()}.</p>
+     *
+     * @return The touched queries, if known
+     */
+    default Optional<Set<DataQuery>> getTouchedQueries() {
+        return Optional.empty();
+    }
+
 }
@@ -0,0 +1,277 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.persistence;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.Objects;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataView;
+import org.spongepowered.api.data.MemoryDataContainer;
+import org.spongepowered.api.world.storage.ChunkDataStream;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link DataContentUpdater} composed once from a contiguous sequence of
+ * {@link DataContentUpdater}s, upgrading content from the input version of
+ * the first updater to the output version of the last one in a single pass.
+ *
+ * <p>Updaters that {@link DataContentUpdater#updatesInPlace() update in
+ * place} share a single copy of the content. Updaters that declare their
+ * {@link DataContentUpdater#getTouchedQueries() touched queries} are only
+ * given a copy of those subtrees, and their results are written back into
+ * the shared copy. Only updaters that declare neither produce a full copy
+ * of their own.</p>
+ *
+ * <p>{@link #update(DataView)} must leave its input unchanged, so it still
+ * copies the whole content once before the first in place or touched query
+ * step. Untouched subtrees are never copied only when using
+ * {@link #updateInPlace(DataView)}.</p>
+ */
+public final class DataContentUpdaterChain implements DataContentUpdater {
+
+    /**
+     * Composes the given updaters into a single chain. The updaters must be
+     * ordered such that the output version of each updater is the input
+     * version of the next.
+     *
+     * @param updaters The updaters to compose
+     * @return The composed chain
+     * @throws IllegalArgumentException If the updaters are empty or not
+     *     contiguous
+     */
+    public static DataContentUpdaterChain of(List<? extends DataContentUpdater> updaters) {
+        checkNotNull(updaters, "updaters");
+        checkArgument(!updaters.isEmpty(), "At least one updater is required!");
+        final DataContentUpdater[] steps = updaters.toArray(new DataContentUpdater[updaters.size()]);
+        for (int i = 0; i < steps.length; i++) {
+            checkNotNull(steps[i], "updater");
+            checkArgument(i == 0 || steps[i - 1].getOutputVersion() == steps[i].getInputVersion(),
+                    "Updater %s does not continue from version %s", steps[i], i == 0 ? 0 : steps[i - 1].getOutputVersion());
+        }
+        return new DataContentUpdaterChain(steps);
+    }
+
+    private final DataContentUpdater[] steps;
+    private final boolean inPlace;
+
+    private DataContentUpdaterChain(DataContentUpdater[] steps) {
+        this.steps = steps;
+        boolean inPlace = true;
+        for (DataContentUpdater step : steps) {
+            inPlace &= step.updatesInPlace();
+        }
+        this.inPlace = inPlace;
+    }
+
+    @Override
+    public int getInputVersion() {
+        return this.steps[0].getInputVersion();
+    }
+
+    @Override
+    public int getOutputVersion() {
+        return this.steps[this.steps.length - 1].getOutputVersion();
+    }
+
+    /**
+     * Gets whether every composed updater updates in place, in which case
+     * {@link #updateInPlace(DataView)} does not copy any content.
+     *
+     * @return True if every composed updater updates in place
+     */
+    @Override
+    public boolean updatesInPlace() {
+        return this.inPlace;
+    }
+
+    /**
+     * Updates a copy of the given content, leaving the given content
+     * unchanged. The content is copied at most once for all in place
+     * version steps.
+     *
+     * @param content The content to update
+     * @return The updated content
+     */
+    @Override
+    public DataView update(DataView content) {
+        return apply(checkNotNull(content, "content"), false);
+    }
+
+    /**
+     * Updates the given content, modifying it directly where the composed
+     * updaters allow. This should only be used on content owned by the
+     * caller, such as content freshly read from storage.
+     *
+     * @param content The content to update
+     * @return The updated content, which may or may not be the given view
+     */
+    public DataView updateInPlace(DataView content) {
+        return apply(checkNotNull(content, "content"), true);
+    }
+
+    private DataView apply(DataView content, boolean owned) {
+        DataView view = content;
+        for (DataContentUpdater step : this.steps) {
+            if (step.updatesInPlace()) {
+                if (!owned) {
+                    view = view.copy();
+                    owned = true;
+                }
+                view = step.update(view);
+                continue;
+            }
+            final Optional<Set<DataQuery>> touched = step.getTouchedQueries();
+            if (touched.isPresent()) {
+                if (!owned) {
+                    view = view.copy();
+                    owned = true;
+                }
+                updateSubtrees(step, touched.get(), view);
+            } else {
+                view = step.update(view);
+                owned = true;
+            }
+        }
+        return view;
+    }
+
+    private static void updateSubtrees(DataContentUpdater step, Set<DataQuery> queries, DataView view) {
+        final DataContainer subtrees = new MemoryDataContainer();
+        for (DataQuery query : queries) {
+            final Optional<Object> value = view.get(query);
+            if (value.isPresent()) {
+                subtrees.set(query, value.get());
+            }
+        }
+        final DataView updated = step.update(subtrees);
+        for (DataQuery query : queries) {
+            view.remove(query);
+            final Optional<Object> value = updated.get(query);
+            if (value.isPresent()) {
+                view.set(query, value.get());
+            }
+        }
+    }
+
+    /**
+     * Updates every chunk remaining in the given {@link ChunkDataStream} on
+     * the given {@link Executor}, using one worker per available processor.
+     *
+     * @param stream The chunk data stream to read from
+     * @param consumer The consumer of updated chunk data
+     * @param executor The executor to update chunks on
+     * @return A future completing with the number of updated chunks
+     * @see #updateAll(ChunkDataStream, Consumer, Executor, int)
+     */
+    public CompletableFuture<Integer> updateAll(ChunkDataStream stream, Consumer<? super DataView> consumer, Executor executor) {
+        return updateAll(stream, consumer, executor, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Updates every chunk remaining in the given {@link ChunkDataStream},
+     * passing each updated chunk to the given consumer.
+     *
+     * <p>This method does not block. The given number of workers is
+     * submitted to the {@link Executor}, and each worker reads the next
+     * chunk from the stream, updates it and passes it to the consumer until
+     * the stream is exhausted. Reads from the stream are synchronized on it,
+     * and at most one chunk per worker is held in memory at a time. The
+     * consumer must be thread safe. The returned future completes with the
+     * number of updated chunks once every worker has finished, or
+     * exceptionally with the first failure, after which no further chunks
+     * are read.</p>
+     *
+     * @param stream The chunk data stream to read from
+     * @param consumer The consumer of updated chunk data
+     * @param executor The executor to update chunks on
+     * @param parallelism The number of workers
+     * @return A future completing with the number of updated chunks
+     */
+    public CompletableFuture<Integer> updateAll(ChunkDataStream stream, Consumer<? super DataView> consumer, Executor executor,
+            int parallelism) {
+        checkNotNull(stream, "stream");
+        checkNotNull(consumer, "consumer");
+        checkNotNull(executor, "executor");
+        checkArgument(parallelism > 0, "The parallelism must be positive!");
+        final CompletableFuture<Integer> result = new CompletableFuture<>();
+        final AtomicInteger workers = new AtomicInteger(parallelism);
+        final AtomicInteger updated = new AtomicInteger();
+        final Runnable worker = () -> {
+            try {
+                DataContainer chunk;
+                while (!result.isDone() && (chunk = next(stream)) != null) {
+                    // Stream contents are read only copies, so a single copy is still required
+                    consumer.accept(update(chunk));
+                    updated.incrementAndGet();
+                }
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            } finally {
+                if (workers.decrementAndGet() == 0) {
+                    result.complete(updated.get());
+                }
+            }
+        };
+        for (int i = 0; i < parallelism; i++) {
+            try {
+                executor.execute(worker);
+            } catch (Throwable t) {
+                // Workers that were already submitted stop once they see the failure
+                result.completeExceptionally(t);
+                break;
+            }
+        }
+        return result;
+    }
+
+    @Nullable
+    private static DataContainer next(ChunkDataStream stream) {
+        synchronized (stream) {
+            return stream.hasNext() ? stream.next() : null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return Objects.toStringHelper(this)
+                .add("from", getInputVersion())
+                .add("to", getOutputVersion())
+                .add("steps", this.steps.length)
+                .toString();
+    }
+
+}
@@ -0,0 +1,225 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.flowpowered.math.vector.Vector3d;
+import com.flowpowered.math.vector.Vector3i;
+import com.google.common.base.Objects;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.block.BlockType;
+import org.spongepowered.api.util.Direction;
+import org.spongepowered.api.world.extent.Extent;
+
+/**
+ * A mutable block position within a particular {@link Extent}, for iterating
+ * over blocks, such as during ray casts or area scans, without creating a
+ * {@link Location} and position vector for every block visited.
+ *
+ * <p>Unlike a {@link Location}, a cursor holds a strong reference to its
+ * extent and is meant to be short-lived: it should not be stored, shared
+ * between threads or used as a map key. Use {@link #toLocation()} to keep a
+ * position.</p>
+ *
+ * @param <E> The type of extent containing this cursor
+ * @see Location#cursor()
+ */
+public final class BlockCursor<E extends Extent> {
+
+    private final E extent;
+    private int x;
+    private int y;
+    private int z;
+
+    /**
+     * Creates a new cursor.
+     *
+     * @param extent The extent
+     * @param x The X-axis position
+     * @param y The Y-axis position
+     * @param z The Z-axis position
+     */
+    public BlockCursor(E extent, int x, int y, int z) {
+        this.extent = checkNotNull(extent, "extent");
+        this.x = x;
+        this.y = y;
+        this.z = z;
+    }
+
+    /**
+     * Gets the extent of this cursor.
+     *
+     * @return The extent
+     */
+    public E getExtent() {
+        return this.extent;
+    }
+
+    /**
+     * Gets the X component of this cursor's position.
+     *
+     * @return The x component
+     */
+    public int getX() {
+        return this.x;
+    }
+
+    /**
+     * Gets the Y component of this cursor's position.
+     *
+     * @return The y component
+     */
+    public int getY() {
+        return this.y;
+    }
+
+    /**
+     * Gets the Z component of this cursor's position.
+     *
+     * @return The z component
+     */
+    public int getZ() {
+        return this.z;
+    }
+
+    /**
+     * Moves this cursor to the given position.
+     *
+     * @param x The X-axis position
+     * @param y The Y-axis position
+     * @param z The Z-axis position
+     * @return This cursor, for chaining
+     */
+    public BlockCursor<E> set(int x, int y, int z) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        return this;
+    }
+
+    /**
+     * Moves this cursor to the given position.
+     *
+     * @param position The position
+     * @return This cursor, for chaining
+     */
+    public BlockCursor<E> set(Vector3i position) {
+        return set(position.getX(), position.getY(), position.getZ());
+    }
+
+    /**
+     * Moves this cursor by the given offsets.
+     *
+     * @param x The X-axis offset
+     * @param y The Y-axis offset
+     * @param z The Z-axis offset
+     * @return This cursor, for chaining
+     */
+    public BlockCursor<E> move(int x, int y, int z) {
+        return set(this.x + x, this.y + y, this.z + z);
+    }
+
+    /**
+     * Moves this cursor to the adjacent block in the given direction.
+     *
+     * @param direction The direction, which must be cardinal or upright
+     * @return This cursor, for chaining
+     * @throws IllegalArgumentException If the direction is not cardinal or
+     *         upright
+     */
+    public BlockCursor<E> move(Direction direction) {
+        checkArgument(direction.isCardinal() || direction.isUpright(), "Direction is not cardinal or upright: %s", direction);
+        final Vector3d offset = direction.toVector3d();
+        return move((int) offset.getX(), (int) offset.getY(), (int) offset.getZ());
+    }
+
+    /**
+     * Gets whether the extent contains the block at this cursor.
+     *
+     * @return True if the block is contained
+     */
+    public boolean containsBlock() {
+        return this.extent.containsBlock(this.x, this.y, this.z);
+    }
+
+    /**
+     * Gets the block at this cursor.
+     *
+     * @return The block
+     */
+    public BlockState getBlock() {
+        return this.extent.getBlock(this.x, this.y, this.z);
+    }
+
+    /**
+     * Gets the block type at this cursor.
+     *
+     * @return The block type
+     */
+    public BlockType getBlockType() {
+        return this.extent.getBlockType(this.x, this.y, this.z);
+    }
+
+    /**
+     * Replaces the block at this cursor.
+     *
+     * @param state The new block state
+     */
+    public void setBlock(BlockState state) {
+        this.extent.setBlock(this.x, this.y, this.z, state);
+    }
+
+    /**
+     * Gets the current position of this cursor as a new vector.
+     *
+     * @return The block position
+     */
+    public Vector3i getBlockPosition() {
+        return new Vector3i(this.x, this.y, this.z);
+    }
+
+    /**
+     * Creates an immutable {@link Location} at the current position of this
+     * cursor.
+     *
+     * @return The location
+     */
+    public Location<E> toLocation() {
+        return new Location<>(this.extent, this.x, this.y, this.z);
+    }
+
+    @Override
+    public String toString() {
+        return Objects.toStringHelper(this)
+                .add("x", this.x)
+                .add("y", this.y)
+                .add("z", this.z)
+                .add("extent", this.extent)
+                .toString();
+    }
+
+}
@@ -31,6 +31,7 @@
 import com.flowpowered.math.vector.Vector3d;
 import com.flowpowered.math.vector.Vector3i;
 import com.google.common.base.Objects;
+import com.google.common.collect.MapMaker;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.block.BlockSnapshot;
 import org.spongepowered.api.block.BlockState;
@@ -58,6 +59,7 @@
 import java.util.Collection;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -76,12 +78,33 @@
  * rounded to an integer.</p>
  *
  * <p>Locations are immutable. Methods that change the properties of the
- * location create a new instance.</p>
+ * location create a new instance. All locations within the same extent share
+ * a single weak reference to it. To iterate over many blocks without
+ * creating a location for each, use a {@link #cursor() BlockCursor}.</p>
  *
  * @param <E> The type of extent containing this location
  */
 public final class Location<E extends Extent> implements DataHolder {
 
+    /**
+     * The weak references to extents, shared by all locations in the same
+     * extent instead of creating one per location.
+     */
+    private static final ConcurrentMap<Extent, WeakReference<Extent>> extentHandles = new MapMaker().weakKeys().makeMap();
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <E extends Extent> WeakReference<E> getHandle(E extent) {
+        WeakReference<Extent> handle = extentHandles.get(checkNotNull(extent, "extent"));
+        if (handle == null) {
+            handle = new WeakReference<>(extent);
+            final WeakReference<Extent> previous = extentHandles.putIfAbsent(extent, handle);
+            if (previous != null) {
+                handle = previous;
+            }
+        }
+        return (WeakReference) handle;
+    }
+
     private final WeakReference<E> extent;
     // Lazily computed, either position or blockPosition is set by the constructor
     @Nullable
@@ -100,7 +123,11 @@
      * @param position The position
      */
     public Location(E extent, Vector3d position) {
-        this.extent = new WeakReference<>(checkNotNull(extent, "extent"));
+        this(getHandle(extent), position);
+    }
+
+    private Location(WeakReference<E> extent, Vector3d position) {
+        this.extent = extent;
         this.position = checkNotNull(position, "position");
     }
 
@@ -123,7 +150,11 @@ public Location(E extent, double x, double y, double z) {
      * @param blockPosition The position
      */
     public Location(E extent, Vector3i blockPosition) {
-        this.extent = new WeakReference<>(checkNotNull(extent, "extent"));
+        this(getHandle(extent), blockPosition);
+    }
+
+    private Location(WeakReference<E> extent, Vector3i blockPosition) {
+        this.extent = extent;
         this.blockPosition = checkNotNull(blockPosition, "blockPosition");
     }
 
@@ -316,7 +347,7 @@ public Location<E> setPosition(Vector3d position) {
         if (position == getPosition()) {
             return this;
         }
-        return new Location<>(getExtent(), position);
+        return new Location<>(this.extent, position);
     }
 
     /**
@@ -418,9 +449,27 @@ public <T> T mapBiome(BiFunction<E, Vector2i, T> mapper) {
      * @return The block in that direction
      */
     public Location<E> getRelative(Direction direction) {
+        if (this.position == null && (direction.isCardinal() || direction.isUpright())) {
+            // Block locations stay block locations, skipping the conversion to
+            // and from a double position
+            final Vector3d offset = direction.toVector3d();
+            return new Location<>(this.extent, this.blockPosition.add((int) offset.getX(), (int) offset.getY(), (int) offset.getZ()));
+        }
         return add(direction.toVector3d());
     }
 
+    /**
+     * Creates a new mutable {@link BlockCursor} at the block position of this
+     * location, for iterating over nearby blocks without creating a new
+     * {@link Location} per block.
+     *
+     * @return A new cursor
+     */
+    public BlockCursor<E> cursor() {
+        final Vector3i position = getBlockPosition();
+        return new BlockCursor<>(getExtent(), position.getX(), position.getY(), position.getZ());
+    }
+
     /**
      * Gets the block at this location.
      *
@@ -734,7 +783,7 @@ public <T, V extends BaseValue<T>> Optional<V> getValue(Key<V> key) {
 
     @Override
     public DataHolder copy() {
-        return new Location<>(getExtent(), getPosition());
+        return new Location<>(this.extent, getPosition());
     }
 
     @Override
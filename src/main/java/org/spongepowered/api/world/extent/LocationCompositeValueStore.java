@@ -24,7 +24,8 @@
  */
 package org.spongepowered.api.world.extent;
 
-import static com.google.gson.internal.$Gson$Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
 
 import com.flowpowered.math.vector.Vector3i;
 import com.google.common.collect.ImmutableSet;
@@ -39,6 +40,8 @@
 import org.spongepowered.api.data.value.immutable.ImmutableValue;
 import org.spongepowered.api.util.persistence.InvalidDataException;
 import org.spongepowered.api.world.Location;
+import org.spongepowered.api.world.extent.worker.procedure.BlockValueMapper;
+import org.spongepowered.api.world.extent.worker.procedure.BlockValueVisitor;
 
 import java.util.Collection;
 import java.util.Optional;
@@ -79,6 +82,135 @@ default <E> Optional<E> get(Vector3i coordinates, Key<? extends BaseValue<E>> ke
      */
     <E> Optional<E> get(int x, int y, int z, Key<? extends BaseValue<E>> key);
 
+    /**
+     * Visits the value of the data keyed to the provided {@link Key} for
+     * every block between {@code min} and {@code max}, inclusive, where the
+     * value is present.
+     *
+     * <p>Blocks are visited with the x coordinate changing fastest, then the
+     * z coordinate and last the y coordinate, matching the layout of chunk
+     * sections. Implementations should resolve each chunk once and walk its
+     * sections linearly, rather than looking up every block on its own.</p>
+     *
+     * @param min The lowest corner of the region
+     * @param max The highest corner of the region
+     * @param key The key to the data
+     * @param visitor The visitor receiving the values
+     * @param <E> The type of element of data
+     * @throws IllegalArgumentException If {@code min} is greater than
+     *         {@code max} on any axis
+     */
+    default <E> void getAll(Vector3i min, Vector3i max, Key<? extends BaseValue<E>> key, BlockValueVisitor<E> visitor) {
+        Regions.checkRegion(min, max);
+        checkNotNull(key, "key");
+        checkNotNull(visitor, "visitor");
+        for (int y = min.getY(); y <= max.getY(); y++) {
+            for (int z = min.getZ(); z <= max.getZ(); z++) {
+                for (int x = min.getX(); x <= max.getX(); x++) {
+                    final E value = getOrNull(x, y, z, key);
+                    if (value != null) {
+                        visitor.visit(x, y, z, value);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads the integer data keyed to the provided {@link Key}, such as
+     * redstone power, for every block between {@code min} and {@code max},
+     * inclusive, into the given buffer.
+     *
+     * <p>The value of the block at {@code (x, y, z)} is stored at index
+     * {@code ((y - minY) * sizeZ + (z - minZ)) * sizeX + (x - minX)}, which
+     * is the order used by {@link #getAll(Vector3i, Vector3i, Key,
+     * BlockValueVisitor)}. Blocks without the data are set to
+     * {@code absent}.</p>
+     *
+     * @param min The lowest corner of the region
+     * @param max The highest corner of the region
+     * @param key The key to the data
+     * @param buffer The buffer to read into
+     * @param absent The value stored for blocks without the data
+     * @throws IllegalArgumentException If {@code min} is greater than
+     *         {@code max} on any axis, or the buffer is smaller than the
+     *         region
+     */
+    default void getAllInts(Vector3i min, Vector3i max, Key<? extends BaseValue<Integer>> key, int[] buffer, int absent) {
+        Regions.checkRegion(min, max);
+        checkNotNull(key, "key");
+        final Vector3i size = max.sub(min).add(Vector3i.ONE);
+        checkArgument((long) size.getX() * size.getY() * size.getZ() <= buffer.length, "The buffer is smaller than the region");
+        int index = 0;
+        for (int y = min.getY(); y <= max.getY(); y++) {
+            for (int z = min.getZ(); z <= max.getZ(); z++) {
+                for (int x = min.getX(); x <= max.getX(); x++) {
+                    final Integer value = getOrNull(x, y, z, key);
+                    buffer[index++] = value == null ? absent : value;
+                }
+            }
+        }
+    }
+
+    /**
+     * Offers the given value, keyed by the provided {@link Key}, to every
+     * block between {@code min} and {@code max}, inclusive.
+     *
+     * @param min The lowest corner of the region
+     * @param max The highest corner of the region
+     * @param key The key for the data
+     * @param value The value to offer
+     * @param <E> The type of data being offered
+     * @return The number of blocks the value was successfully offered to
+     * @throws IllegalArgumentException If {@code min} is greater than
+     *         {@code max} on any axis
+     * @see #offerAll(Vector3i, Vector3i, Key, BlockValueMapper)
+     */
+    default <E> int offerAll(Vector3i min, Vector3i max, Key<? extends BaseValue<E>> key, E value) {
+        checkNotNull(value, "value");
+        return offerAll(min, max, key, (x, y, z) -> value);
+    }
+
+    /**
+     * Offers the values returned by the given mapper, keyed by the provided
+     * {@link Key}, to every block between {@code min} and {@code max},
+     * inclusive. Blocks are visited in the order used by
+     * {@link #getAll(Vector3i, Vector3i, Key, BlockValueVisitor)}.
+     *
+     * <p>The default implementation offers to each block through
+     * {@link #tryOffer(int, int, int, Key, Object)}, so no
+     * {@link DataTransactionResult} is created per block if that method is
+     * overridden. Implementations should override this method to resolve
+     * each chunk once and apply the values section by section.</p>
+     *
+     * @param min The lowest corner of the region
+     * @param max The highest corner of the region
+     * @param key The key for the data
+     * @param mapper The mapper returning the value for each block, or
+     *        {@code null} to leave it unchanged
+     * @param <E> The type of data being offered
+     * @return The number of blocks a value was successfully offered to
+     * @throws IllegalArgumentException If {@code min} is greater than
+     *         {@code max} on any axis
+     */
+    default <E> int offerAll(Vector3i min, Vector3i max, Key<? extends BaseValue<E>> key, BlockValueMapper<E> mapper) {
+        Regions.checkRegion(min, max);
+        checkNotNull(key, "key");
+        checkNotNull(mapper, "mapper");
+        int offered = 0;
+        for (int y = min.getY(); y <= max.getY(); y++) {
+            for (int z = min.getZ(); z <= max.getZ(); z++) {
+                for (int x = min.getX(); x <= max.getX(); x++) {
+                    final E value = mapper.map(x, y, z);
+                    if (value != null && tryOffer(x, y, z, key, value)) {
+                        offered++;
+                    }
+                }
+            }
+        }
+        return offered;
+    }
+
     /**
      * Gets an instance of the given data class for given block at the location.
      *
@@ -464,6 +596,26 @@ default <E> DataTransactionResult offer(Vector3i coordinates, Key<? extends Base
      */
     <E> DataTransactionResult offer(int x, int y, int z, Key<? extends BaseValue<E>> key, E value);
 
+    /**
+     * Offers the given <code>E</code> value that is keyed by the provided
+     * {@link Key} to the block at the provided location, returning only
+     * whether the offer was successful.
+     *
+     * <p>Implementations should override this method to skip creating a
+     * {@link DataTransactionResult}.</p>
+     *
+     * @param x The X position
+     * @param y The Y position
+     * @param z The Z position
+     * @param key The key for the data
+     * @param value The value to offer
+     * @param <E> The type of data being offered
+     * @return True if the value was successfully offered
+     */
+    default <E> boolean tryOffer(int x, int y, int z, Key<? extends BaseValue<E>> key, E value) {
+        return offer(x, y, z, key, value).isSuccessful();
+    }
+
     /**
      * Offers the given {@link BaseValue} to the block at the given position.
      *
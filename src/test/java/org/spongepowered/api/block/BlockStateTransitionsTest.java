@@ -0,0 +1,100 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.block;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import org.junit.Test;
+import org.spongepowered.api.block.trait.BlockTrait;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@SuppressWarnings({"unchecked", "rawtypes"})
+public class BlockStateTransitionsTest {
+
+    private final BlockTrait<Boolean> powered = mock(BlockTrait.class);
+    private final BlockTrait<Integer> level = mock(BlockTrait.class);
+
+    private BlockState state(boolean powered, int level) {
+        final BlockState state = mock(BlockState.class);
+        final Map<BlockTrait<?>, ?> traits = ImmutableMap.of(this.powered, powered, this.level, level);
+        when(state.getTraits()).thenReturn((List) ImmutableList.of(this.powered, this.level));
+        when(state.getTraitMap()).thenReturn((Map) traits);
+        return state;
+    }
+
+    @Test
+    public void testTransitions() {
+        when(this.powered.getPossibleValues()).thenReturn(ImmutableList.of(false, true));
+        when(this.level.getPossibleValues()).thenReturn(ImmutableList.of(0, 1, 2));
+        final BlockState off0 = state(false, 0);
+        final BlockState on0 = state(true, 0);
+        final BlockState off2 = state(false, 2);
+        final BlockState on2 = state(true, 2);
+        final BlockState off1 = state(false, 1);
+        final BlockState on1 = state(true, 1);
+        final BlockStateTransitions transitions = BlockStateTransitions.of(ImmutableList.of(off0, on0, off1, on1, off2, on2));
+
+        assertEquals(Optional.of(on0), transitions.with(off0, this.powered, true));
+        assertEquals(Optional.of(off0), transitions.with(off0, this.powered, false));
+        assertEquals(Optional.of(on2), transitions.with(on0, this.level, 2));
+        assertEquals(Optional.empty(), transitions.with(on0, this.level, 3));
+        assertEquals(Optional.empty(), transitions.with(mock(BlockState.class), this.level, 1));
+    }
+
+    @Test
+    public void testIndexedTransitions() {
+        when(this.powered.getPossibleValues()).thenReturn(ImmutableList.of(false, true));
+        when(this.level.getPossibleValues()).thenReturn(ImmutableList.of(0, 1));
+        final BlockState off0 = state(false, 0);
+        final BlockState on0 = state(true, 0);
+        final BlockState off1 = state(false, 1);
+        final BlockState on1 = state(true, 1);
+        final BlockStateTransitions transitions = BlockStateTransitions.of(ImmutableList.of(off0, on0, off1, on1));
+
+        final int powerOn = transitions.getTransitionIndex(this.powered, true);
+        final int levelOne = transitions.getTransitionIndex(this.level, 1);
+        assertSame(on0, transitions.with(transitions.getStateIndex(off0), powerOn));
+        assertSame(on1, transitions.with(transitions.getStateIndex(on0), levelOne));
+        assertSame(on1, transitions.with(transitions.getStateIndex(off1), powerOn));
+        assertEquals(-1, transitions.getStateIndex(mock(BlockState.class)));
+        assertEquals(-1, transitions.getTransitionIndex(this.level, 2));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMissingStatesAreRejected() {
+        when(this.powered.getPossibleValues()).thenReturn(ImmutableList.of(false, true));
+        when(this.level.getPossibleValues()).thenReturn(ImmutableList.of(0, 1));
+        BlockStateTransitions.of(ImmutableList.of(state(false, 0), state(true, 0), state(false, 1)));
+    }
+
+}
@@ -24,6 +24,10 @@
  */
 package org.spongepowered.api.command;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -33,9 +37,12 @@
 import org.spongepowered.api.command.CommandSource;
 import org.spongepowered.api.command.args.CommandContext;
 import org.spongepowered.api.command.dispatcher.SimpleDispatcher;
+import org.spongepowered.api.command.spec.AsyncCommandExecutor;
 import org.spongepowered.api.command.spec.CommandExecutor;
 import org.spongepowered.api.command.spec.CommandSpec;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Test for basic commandspec creation.
  */
@@ -59,6 +66,29 @@ public CommandResult execute(CommandSource src, CommandContext args) throws Comm
         dispatcher.process(Mockito.mock(CommandSource.class), "cmd");
     }
 
+    @Test
+    public void testAsyncExecutor() throws Exception {
+        final CompletableFuture<CommandResult> pending = new CompletableFuture<>();
+        CommandSpec cmd = CommandSpec.builder()
+                .executor((AsyncCommandExecutor) (src, args) -> pending)
+                .build();
+
+        final SimpleDispatcher dispatcher = new SimpleDispatcher();
+        dispatcher.register(cmd, "cmd");
+        final CompletableFuture<CommandResult> result = dispatcher.processAsync(Mockito.mock(CommandSource.class), "cmd");
+        assertFalse(result.isDone());
+
+        pending.complete(CommandResult.success());
+        assertEquals(CommandResult.success(), result.get());
+    }
+
+    @Test
+    public void testProcessAsyncUnknownCommand() {
+        final SimpleDispatcher dispatcher = new SimpleDispatcher();
+        final CompletableFuture<CommandResult> result = dispatcher.processAsync(Mockito.mock(CommandSource.class), "cmd");
+        assertTrue(result.isCompletedExceptionally());
+    }
+
     @Test
     public void testExecutorRequired() {
         this.expected.expect(NullPointerException.class);
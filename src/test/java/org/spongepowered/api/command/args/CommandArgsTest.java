@@ -0,0 +1,101 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.command.args;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.spongepowered.api.command.args.GenericArguments.firstParsing;
+import static org.spongepowered.api.command.args.GenericArguments.integer;
+import static org.spongepowered.api.command.args.GenericArguments.string;
+
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.spongepowered.api.command.CommandSource;
+import org.spongepowered.api.command.args.parsing.InputTokenizer;
+import org.spongepowered.api.command.args.parsing.InputTokenizers;
+import org.spongepowered.api.text.Text;
+import org.spongepowered.api.util.test.TestHooks;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class CommandArgsTest {
+
+    static {
+        TestHooks.initialize();
+    }
+
+    private static CommandArgs argsFor(String input) throws ArgumentParseException {
+        return new CommandArgs(input, InputTokenizers.quotedStrings(false).tokenize(input, false));
+    }
+
+    @Test
+    public void testSpeculativeErrorsHaveNoStackTrace() throws ArgumentParseException {
+        final CommandArgs args = argsFor("a b");
+        assertNotEquals(0, args.createError(Text.of("error")).getStackTrace().length);
+
+        args.startSpeculation();
+        args.startSpeculation();
+        args.endSpeculation();
+        assertEquals(0, args.createError(Text.of("error")).getStackTrace().length);
+
+        args.endSpeculation();
+        assertNotEquals(0, args.createError(Text.of("error")).getStackTrace().length);
+    }
+
+    @Test
+    public void testSpeculativeErrorsDeferMessages() throws ArgumentParseException {
+        final CommandArgs args = argsFor("a b");
+        final AtomicInteger created = new AtomicInteger();
+        args.startSpeculation();
+        final ArgumentParseException error = args.createError(() -> {
+            created.incrementAndGet();
+            return Text.of("error");
+        });
+        args.endSpeculation();
+        assertEquals(0, created.get());
+        assertEquals("error", error.getText().toPlain().split("\n")[0]);
+        error.getText();
+        assertEquals(1, created.get());
+    }
+
+    @Test
+    public void testFirstParsingFallsThroughSpeculativeFailure() throws ArgumentParseException {
+        final CommandElement element = firstParsing(integer(Text.of("int")), string(Text.of("str")));
+        final CommandArgs args = argsFor("abc");
+        final CommandContext context = new CommandContext();
+        element.parse(Mockito.mock(CommandSource.class), args, context);
+        assertEquals("abc", context.getOne("str").get());
+        assertNotEquals(0, args.createError(Text.of("error")).getStackTrace().length);
+    }
+
+    @Test
+    public void testCachedTokenizer() throws ArgumentParseException {
+        final InputTokenizer tokenizer = InputTokenizers.cached(InputTokenizers.quotedStrings(false), 16);
+        assertSame(tokenizer.tokenize("a \"b c\"", false), tokenizer.tokenize("a \"b c\"", false));
+        assertEquals(2, tokenizer.tokenize("a \"b c\"", true).size());
+    }
+
+}
@@ -54,6 +54,7 @@
 import org.spongepowered.api.command.spec.CommandSpec;
 import org.spongepowered.api.util.test.TestHooks;
 
+import java.util.List;
 
 /**
  * Tests for all argument types contained in GenericArguments.
@@ -199,6 +200,27 @@ public void testEnumValue() throws ArgumentParseException {
         parseForInput("notanel", enumEl);
     }
 
+    @Test
+    public void testEnumValueCompletion() {
+        CommandElement enumEl = enumValue(untr("val"), TestEnum.class);
+        assertEquals(ImmutableList.of("ONE"), completeForInput("o", enumEl));
+        assertEquals(ImmutableList.of("TWO"), completeForInput("tW", enumEl));
+        assertEquals(ImmutableList.of("ONE", "TWO"), completeForInput("(o|t)", enumEl));
+    }
+
+    private static List<String> completeForInput(String input, CommandElement element) {
+        CommandSpec spec = CommandSpec.builder()
+                .arguments(element)
+                .executor(NULL_EXECUTOR)
+                .build();
+        try {
+            final CommandArgs args = new CommandArgs(input, spec.getInputTokenizer().tokenize(input, true));
+            return element.complete(MOCK_SOURCE, args, new CommandContext());
+        } catch (ArgumentParseException e) {
+            throw new AssertionError(e);
+        }
+    }
+
     @Test
     public void testRemainingJoinedStrings() throws ArgumentParseException {
         CommandElement remainingJoined = remainingJoinedStrings(untr("val"));
@@ -0,0 +1,106 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.command.dispatcher;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.spongepowered.api.command.CommandCallable;
+import org.spongepowered.api.command.CommandMapping;
+import org.spongepowered.api.util.test.TestHooks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class SimpleDispatcherTest {
+
+    static {
+        TestHooks.initialize();
+    }
+
+    @Test
+    public void testRegisterAndRemove() {
+        final SimpleDispatcher dispatcher = new SimpleDispatcher();
+        final CommandMapping first = dispatcher.register(Mockito.mock(CommandCallable.class), "first", "f").get();
+        final CommandMapping second = dispatcher.register(Mockito.mock(CommandCallable.class), "Second").get();
+
+        assertEquals(3, dispatcher.size());
+        assertEquals(ImmutableSet.of("first", "Second"), dispatcher.getPrimaryAliases());
+        assertEquals(first, dispatcher.get("F").get());
+        assertTrue(dispatcher.containsAlias("second"));
+
+        assertEquals(1, dispatcher.remove("f").size());
+        assertFalse(dispatcher.containsAlias("f"));
+        assertTrue(dispatcher.removeMapping(second).isPresent());
+        assertFalse(dispatcher.containsMapping(second));
+        assertEquals(1, dispatcher.size());
+    }
+
+    @Test
+    public void testConcurrentReadsDuringRegistration() throws InterruptedException {
+        final SimpleDispatcher dispatcher = new SimpleDispatcher();
+        final CommandMapping stable = dispatcher.register(Mockito.mock(CommandCallable.class), "stable").get();
+        final AtomicBoolean done = new AtomicBoolean();
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        final List<Thread> readers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            final Thread reader = new Thread(() -> {
+                try {
+                    while (!done.get()) {
+                        assertEquals(stable, dispatcher.get("stable").get());
+                        dispatcher.getAliases();
+                        dispatcher.size();
+                    }
+                } catch (Throwable t) {
+                    failure.set(t);
+                }
+            });
+            reader.start();
+            readers.add(reader);
+        }
+
+        for (int i = 0; i < 500; i++) {
+            dispatcher.register(Mockito.mock(CommandCallable.class), "command" + i);
+            if (i % 2 == 0) {
+                dispatcher.remove("command" + i);
+            }
+        }
+        done.set(true);
+        for (Thread reader : readers) {
+            reader.join();
+        }
+
+        assertEquals(null, failure.get());
+        assertEquals(251, dispatcher.size());
+    }
+
+}
@@ -26,9 +26,15 @@
 
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
 
+import com.google.common.collect.ImmutableList;
 import org.junit.Test;
 import org.spongepowered.api.data.DataTransactionResult.Type;
+import org.spongepowered.api.data.value.immutable.ImmutableValue;
+
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class DataTransactionBuilderTest {
 
@@ -41,6 +47,24 @@ public void testCorrectTypeWhenAbsorbingResult() {
         assertEquals(Type.CANCELLED, absorbedType(Type.FAILURE, Type.CANCELLED));
     }
     
+    @Test
+    public void testLazySuccessResult() {
+        final ImmutableValue<?> value = mock(ImmutableValue.class);
+        final AtomicInteger calls = new AtomicInteger();
+        final DataTransactionResult result = DataTransactionResult.lazySuccessResult(() -> {
+            calls.incrementAndGet();
+            return value;
+        }, null);
+        assertTrue(result.isSuccessful());
+        assertTrue(result.toString().contains("<lazy>"));
+        assertEquals(0, calls.get());
+        assertEquals(ImmutableList.of(value), result.getSuccessfulData());
+        assertEquals(ImmutableList.of(value), result.getSuccessfulData());
+        assertEquals(1, calls.get());
+        assertTrue(result.getReplacedData().isEmpty());
+        assertTrue(result.getRejectedData().isEmpty());
+    }
+
     private Type absorbedType(Type builderType, Type resultType) {
         DataTransactionResult result = DataTransactionResult.builder().result(resultType).build();
         DataTransactionResult absorbed = DataTransactionResult.builder().result(builderType).absorbResult(result).build();
@@ -41,6 +41,7 @@
 import org.powermock.modules.junit4.PowerMockRunner;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.util.persistence.DataBuilder;
+import org.spongepowered.api.util.persistence.DataBuilderHandle;
 
 import java.util.Arrays;
 import java.util.List;
@@ -289,6 +290,24 @@ public void testGetSerializableList() {
 
     }
 
+    @Test
+    public void testGetSerializableListWithHandle() {
+        DataManager service = Mockito.mock(DataManager.class);
+        Mockito.stub(service.getBuilder(SimpleData.class)).toReturn(Optional.of(new SimpleDataBuilder()));
+        DataBuilderHandle<SimpleData> handle = DataBuilderHandle.of(service, SimpleData.class);
+
+        List<SimpleData> list = Lists.newArrayList();
+        for (int i = 0; i < 1000; i++) {
+            list.add(new SimpleData(i, 0.1 * i, "i", ImmutableList.of(Integer.toString(i))));
+        }
+        DataContainer container = new MemoryDataContainer();
+        container.set(of("foo", "bar"), list);
+        for (int i = 0; i < 3; i++) {
+            assertTrue(Objects.equal(container.getSerializableList(of("foo", "bar"), handle).get(), list));
+        }
+        Mockito.verify(service, Mockito.times(1)).getBuilder(SimpleData.class);
+    }
+
     @Test
     public void testGetKeys() {
         Set<DataQuery> queries = Sets.newHashSet();
@@ -0,0 +1,89 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.key;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.value.mutable.ListValue;
+import org.spongepowered.api.data.value.mutable.Value;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+public class KeyedValueArrayTest {
+
+    private static final Key<Value<String>> NAME = KeyFactory.makeSingleKey(String.class, Value.class, DataQuery.of("Name"));
+    private static final Key<Value<Double>> HEALTH = KeyFactory.makeSingleKey(Double.class, Value.class, DataQuery.of("Health"));
+    private static final Key<ListValue<String>> LORE = KeyFactory.makeListKey(String.class, DataQuery.of("Lore"));
+
+    @Test
+    public void testOrdinalsAreDense() {
+        assertEquals(NAME.getOrdinal() + 1, HEALTH.getOrdinal());
+        assertEquals(HEALTH.getOrdinal() + 1, LORE.getOrdinal());
+        assertEquals(NAME.getOrdinal(), NAME.getOrdinal());
+    }
+
+    @Test
+    public void testGetSetRemove() {
+        final KeyedValueArray values = new KeyedValueArray();
+        assertFalse(values.contains(HEALTH));
+        assertNull(values.getOrNull(HEALTH));
+
+        assertEquals(Optional.empty(), values.set(HEALTH, 20.0));
+        assertEquals(Optional.of(20.0), values.set(HEALTH, 10.0));
+        assertEquals(Optional.of(10.0), values.get(HEALTH));
+        assertEquals(1, values.size());
+
+        final List<String> lore = Arrays.asList("First", "Second");
+        values.set(LORE, lore);
+        assertEquals(lore, values.getOrNull(LORE));
+        assertEquals(ImmutableSet.of(HEALTH, LORE), values.getKeys());
+
+        assertEquals(Optional.of(10.0), values.remove(HEALTH));
+        assertEquals(Optional.empty(), values.remove(NAME));
+        assertEquals(1, values.size());
+    }
+
+    @Test
+    public void testCopyIsIndependent() {
+        final KeyedValueArray values = new KeyedValueArray();
+        values.set(NAME, "Notch");
+        final KeyedValueArray copy = values.copy();
+        copy.set(NAME, "Jeb");
+        assertEquals("Notch", values.getOrNull(NAME));
+        assertEquals("Jeb", copy.getOrNull(NAME));
+        values.clear();
+        assertTrue(values.isEmpty());
+        assertTrue(copy.contains(NAME));
+    }
+
+}
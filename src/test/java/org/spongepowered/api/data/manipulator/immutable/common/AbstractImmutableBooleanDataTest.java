@@ -0,0 +1,94 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.manipulator.immutable.common;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+import org.spongepowered.api.GameRegistry;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.data.key.Key;
+import org.spongepowered.api.data.manipulator.DataManipulator;
+import org.spongepowered.api.data.value.BaseValue;
+import org.spongepowered.api.data.value.ValueFactory;
+import org.spongepowered.api.data.value.mutable.Value;
+
+import java.util.Optional;
+
+@RunWith(PowerMockRunner.class)
+@PrepareForTest(Sponge.class)
+public class AbstractImmutableBooleanDataTest {
+
+    private final ValueFactory valueFactory = mock(ValueFactory.class);
+
+    @Before
+    public void initialize() {
+        final GameRegistry registry = mock(GameRegistry.class);
+        PowerMockito.mockStatic(Sponge.class);
+        PowerMockito.when(Sponge.getRegistry()).thenReturn(registry);
+        PowerMockito.when(registry.getValueFactory()).thenReturn(this.valueFactory);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testValueIsNotSwappedWithDefault() {
+        final Key<Value<Boolean>> key = mock(Key.class);
+        new ImmutableTestData(true, key, false);
+        verify(this.valueFactory).createImmutableValue(key, true, false);
+    }
+
+    private interface TestData extends DataManipulator<TestData, ImmutableTestData> {
+    }
+
+    private static final class ImmutableTestData extends AbstractImmutableBooleanData<ImmutableTestData, TestData> {
+
+        ImmutableTestData(boolean value, Key<Value<Boolean>> usedKey, boolean defaultValue) {
+            super(value, usedKey, defaultValue);
+        }
+
+        @Override
+        public <E> Optional<ImmutableTestData> with(Key<? extends BaseValue<E>> key, E value) {
+            return Optional.empty();
+        }
+
+        @Override
+        public TestData asMutable() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int getContentVersion() {
+            return 1;
+        }
+
+    }
+
+}
@@ -0,0 +1,100 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.property;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.data.Property;
+
+import java.util.Optional;
+
+@SuppressWarnings({"unchecked", "rawtypes"})
+public class CachingPropertyStoreTest {
+
+    private final Property property = mock(Property.class);
+    private final PropertyStore low = mock(PropertyStore.class);
+    private final PropertyStore high = mock(PropertyStore.class);
+
+    public CachingPropertyStoreTest() {
+        when(this.low.getPriority()).thenReturn(10);
+        when(this.high.getPriority()).thenReturn(100);
+        when(this.low.isImmutableFor(any(PropertyHolder.class))).thenReturn(true);
+        when(this.high.isImmutableFor(any(PropertyHolder.class))).thenReturn(true);
+        when(this.low.getFor(any(PropertyHolder.class))).thenReturn(Optional.of(this.property));
+        when(this.high.getFor(any(PropertyHolder.class))).thenReturn(Optional.empty());
+    }
+
+    @Test
+    public void testDispatchesByPriority() {
+        final CachingPropertyStore store = new CachingPropertyStore(ImmutableList.of(this.low, this.high));
+        assertEquals(100, store.getPriority());
+        final Property override = mock(Property.class);
+        when(this.high.getFor(any(PropertyHolder.class))).thenReturn(Optional.of(override));
+        assertSame(override, store.getFor(mock(BlockState.class)).get());
+    }
+
+    @Test
+    public void testMemoizesImmutableHolders() {
+        final CachingPropertyStore store = new CachingPropertyStore(ImmutableList.of(this.low, this.high));
+        final BlockState state = mock(BlockState.class);
+        for (int i = 0; i < 3; i++) {
+            assertSame(this.property, store.getFor(state).get());
+        }
+        verify(this.low, times(1)).getFor(state);
+
+        store.invalidate();
+        store.getFor(state);
+        verify(this.low, times(2)).getFor(state);
+    }
+
+    @Test
+    public void testSkipsMutableHolders() {
+        final CachingPropertyStore store = new CachingPropertyStore(ImmutableList.of(this.low, this.high));
+        final PropertyHolder holder = mock(PropertyHolder.class);
+        store.getFor(holder);
+        store.getFor(holder);
+        verify(this.low, times(2)).getFor(holder);
+    }
+
+    @Test
+    public void testSkipsHoldersAnyStoreReportsMutable() {
+        when(this.high.isImmutableFor(any(PropertyHolder.class))).thenReturn(false);
+        final CachingPropertyStore store = new CachingPropertyStore(ImmutableList.of(this.low, this.high));
+        final BlockState state = mock(BlockState.class);
+        store.getFor(state);
+        store.getFor(state);
+        verify(this.low, times(2)).getFor(state);
+    }
+
+}
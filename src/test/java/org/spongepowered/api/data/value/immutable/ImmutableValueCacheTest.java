@@ -0,0 +1,67 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.value.immutable;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import org.junit.Test;
+import org.spongepowered.api.data.key.Key;
+import org.spongepowered.api.data.value.mutable.Value;
+
+@SuppressWarnings("unchecked")
+public class ImmutableValueCacheTest {
+
+    @Test
+    public void testCacheableDomains() {
+        assertTrue(ImmutableValueCache.isCacheable(true));
+        assertTrue(ImmutableValueCache.isCacheable(20));
+        assertTrue(ImmutableValueCache.isCacheable(Thread.State.NEW));
+        assertFalse(ImmutableValueCache.isCacheable(ImmutableValueCache.MAX_CACHED_INTEGER + 1));
+        assertFalse(ImmutableValueCache.isCacheable(20.0));
+        assertFalse(ImmutableValueCache.isCacheable("text"));
+        assertFalse(ImmutableValueCache.isCacheable(null));
+    }
+
+    @Test
+    public void testBoundedValuesAreShared() {
+        final Key<Value<Boolean>> key = mock(Key.class);
+        final ImmutableValue<Boolean> first = ImmutableValueCache.getOrCreate(key, true, false, () -> mock(ImmutableValue.class));
+        assertSame(first, ImmutableValueCache.getOrCreate(key, true, false, () -> mock(ImmutableValue.class)));
+        assertNotSame(first, ImmutableValueCache.getOrCreate(key, false, false, () -> mock(ImmutableValue.class)));
+        assertNotSame(first, ImmutableValueCache.getOrCreate(key, true, true, () -> mock(ImmutableValue.class)));
+    }
+
+    @Test
+    public void testUnboundedValuesAreNotCached() {
+        final Key<Value<String>> key = mock(Key.class);
+        final ImmutableValue<String> first = ImmutableValueCache.getOrCreate(key, "Notch", "", () -> mock(ImmutableValue.class));
+        assertNotSame(first, ImmutableValueCache.getOrCreate(key, "Notch", "", () -> mock(ImmutableValue.class)));
+    }
+
+}
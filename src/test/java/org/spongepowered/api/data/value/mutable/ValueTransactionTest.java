@@ -0,0 +1,110 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.value.mutable;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.Test;
+import org.spongepowered.api.data.DataTransactionResult;
+import org.spongepowered.api.data.key.Key;
+import org.spongepowered.api.data.value.ValueContainer;
+
+@SuppressWarnings({"unchecked", "rawtypes"})
+public class ValueTransactionTest {
+
+    private final CompositeValueStore<?, ValueContainer<?>> store = mock(CompositeValueStore.class);
+    private final Key<Value<String>> name = mock(Key.class);
+    private final Key<Value<Integer>> level = mock(Key.class);
+
+    @Test
+    public void testCommitAppliesAllChanges() {
+        when(this.store.supports(any(Key.class))).thenReturn(true);
+        when(this.store.offer(any(Key.class), any())).thenReturn(DataTransactionResult.successNoData());
+        when(this.store.remove(any(Key.class))).thenReturn(DataTransactionResult.successNoData());
+
+        final DataTransactionResult result = new SimpleValueTransaction<>(this.store)
+                .offer(this.name, "Notch")
+                .remove(this.level)
+                .commit();
+        assertTrue(result.isSuccessful());
+        verify(this.store).offer(this.name, "Notch");
+        verify(this.store).remove(this.level);
+    }
+
+    @Test
+    public void testUnsupportedChangeAppliesNothing() {
+        when(this.store.supports(this.name)).thenReturn(true);
+        when(this.store.supports(this.level)).thenReturn(false);
+
+        final DataTransactionResult result = new SimpleValueTransaction<>(this.store)
+                .offer(this.name, "Notch")
+                .offer(this.level, 5)
+                .commit();
+        assertFalse(result.isSuccessful());
+        verify(this.store, never()).offer(any(Key.class), any());
+    }
+
+    @Test
+    public void testFailedChangeUndoesAppliedChanges() {
+        final DataTransactionResult applied = DataTransactionResult.successNoData();
+        when(this.store.supports(any(Key.class))).thenReturn(true);
+        when(this.store.offer(this.name, "Notch")).thenReturn(applied);
+        when(this.store.offer(this.level, 5)).thenReturn(DataTransactionResult.failNoData());
+
+        final DataTransactionResult result = new SimpleValueTransaction<>(this.store)
+                .offer(this.name, "Notch")
+                .offer(this.level, 5)
+                .commit();
+        assertEquals(DataTransactionResult.Type.FAILURE, result.getType());
+        verify(this.store).undo(applied);
+    }
+
+    @Test
+    public void testFailedChangeKeepsResultType() {
+        when(this.store.supports(any(Key.class))).thenReturn(true);
+        when(this.store.offer(this.name, "Notch")).thenReturn(
+                DataTransactionResult.builder().result(DataTransactionResult.Type.CANCELLED).build());
+
+        final DataTransactionResult result = new SimpleValueTransaction<>(this.store)
+                .offer(this.name, "Notch")
+                .commit();
+        assertEquals(DataTransactionResult.Type.CANCELLED, result.getType());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testCommitTwice() {
+        final ValueTransaction<ValueContainer<?>> transaction = new SimpleValueTransaction<>(this.store);
+        transaction.commit();
+        transaction.commit();
+    }
+
+}
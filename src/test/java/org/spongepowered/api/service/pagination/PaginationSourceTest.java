@@ -0,0 +1,84 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.pagination;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.Test;
+import org.spongepowered.api.command.CommandSource;
+import org.spongepowered.api.text.Text;
+import org.spongepowered.api.util.test.TestHooks;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class PaginationSourceTest {
+
+    static {
+        TestHooks.initialize();
+    }
+
+    @Test
+    public void testOnlyWindowIsRetrieved() {
+        final AtomicInteger retrieved = new AtomicInteger();
+        final PaginationSource source = PaginationSource.of(100000, index -> {
+            retrieved.incrementAndGet();
+            return Text.of("Row " + index);
+        });
+        assertEquals(100000, source.size());
+        assertEquals(Arrays.asList(Text.of("Row 500"), Text.of("Row 501")), source.get(500, 502));
+        assertEquals(2, retrieved.get());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testWindowOutOfRange() {
+        PaginationSource.of(10, index -> Text.of(index)).get(5, 11);
+    }
+
+    @Test
+    public void testListSource() {
+        final PaginationSource source = PaginationSource.of(Arrays.asList(Text.of("a"), Text.of("b"), Text.of("c")));
+        assertEquals(Arrays.asList(Text.of("b"), Text.of("c")), source.get(1, 3));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testCachingLines() {
+        final PaginationCalculator<CommandSource> delegate = mock(PaginationCalculator.class);
+        when(delegate.getLines(any(CommandSource.class), any(Text.class))).thenReturn(2);
+        final PaginationCalculator<CommandSource> calculator = PaginationCalculator.cachingLines(delegate);
+        final CommandSource source = mock(CommandSource.class);
+        final Text text = Text.of("Some long line");
+        assertEquals(2, calculator.getLines(source, text));
+        assertEquals(2, calculator.getLines(source, text));
+        verify(delegate, times(1)).getLines(source, text);
+    }
+
+}
@@ -0,0 +1,73 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+import org.spongepowered.api.text.serializer.TextSerializers;
+import org.spongepowered.api.util.test.TestHooks;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+public class TextSerializationTest {
+
+    static {
+        TestHooks.initialize();
+    }
+
+    private static final Text TEXT = Text.of("Hello ", Text.of("wörld"));
+
+    @Test
+    public void testSerializedFormIsShared() {
+        final String serialized = TEXT.getSerialized(TextSerializers.PLAIN, Locale.ENGLISH);
+        assertEquals("Hello wörld", serialized);
+        assertSame(serialized, TEXT.getSerialized(TextSerializers.PLAIN, Locale.ENGLISH));
+    }
+
+    @Test
+    public void testSerializedBytes() {
+        final ByteBuffer first = TEXT.getSerializedBytes(TextSerializers.PLAIN, Locale.ENGLISH);
+        final byte[] bytes = new byte[first.remaining()];
+        first.get(bytes);
+        assertEquals("Hello wörld", new String(bytes, StandardCharsets.UTF_8));
+
+        final ByteBuffer second = TEXT.getSerializedBytes(TextSerializers.PLAIN, Locale.ENGLISH);
+        assertNotSame(first, second);
+        assertEquals(bytes.length, second.remaining());
+    }
+
+    @Test
+    public void testAppendableSerialization() throws Exception {
+        final StringBuilder builder = new StringBuilder("> ");
+        TextSerializers.PLAIN.serialize(TEXT, Locale.ENGLISH, builder);
+        assertEquals("> Hello wörld", builder.toString());
+    }
+
+}
@@ -0,0 +1,72 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text;
+
+import static org.junit.Assert.assertEquals;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import org.junit.Test;
+import org.spongepowered.api.util.test.TestHooks;
+
+public class TextTemplateTest {
+
+    static {
+        TestHooks.initialize();
+    }
+
+    private static final TextTemplate TEMPLATE = TextTemplate.of(
+            TextTemplate.arg("player"), " says ", TextTemplate.arg("message"), " to ", TextTemplate.arg("player"),
+            TextTemplate.arg("suffix").optional().defaultValue(Text.of("!")));
+
+    @Test
+    public void testArgumentNamesInOrderOfFirstAppearance() {
+        assertEquals(ImmutableList.of("player", "message", "suffix"), TEMPLATE.getArgumentNames());
+    }
+
+    @Test
+    public void testPositionalApplyMatchesNamedApply() {
+        final Text named = TEMPLATE.apply(ImmutableMap.<String, TextElement>of("player", Text.of("Notch"), "message", Text.of("hi"))).build();
+        final Text positional = TEMPLATE.applyArgs(Text.of("Notch"), "hi").build();
+        assertEquals(named, positional);
+        assertEquals("Notch says hi to Notch!", positional.toPlain());
+    }
+
+    @Test
+    public void testPositionalApplyOverridesDefault() {
+        assertEquals("Notch says hi to Notch?", TEMPLATE.applyArgs("Notch", "hi", "?").build().toPlain());
+    }
+
+    @Test(expected = TextTemplateArgumentException.class)
+    public void testMissingRequiredArgument() {
+        TEMPLATE.applyArgs("Notch");
+    }
+
+    @Test(expected = TextTemplateArgumentException.class)
+    public void testTooManyArguments() {
+        TEMPLATE.applyArgs("Notch", "hi", "?", "extra");
+    }
+
+}
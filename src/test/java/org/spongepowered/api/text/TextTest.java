@@ -0,0 +1,104 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+
+import org.junit.Test;
+import org.spongepowered.api.text.format.TextColors;
+import org.spongepowered.api.text.translation.Translation;
+import org.spongepowered.api.util.test.TestHooks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class TextTest {
+
+    static {
+        TestHooks.initialize();
+    }
+
+    @Test
+    public void testHashCodeMatchesEquality() {
+        final Text first = Text.of(TextColors.RED, "Hello ", Text.of("world"));
+        final Text second = Text.of(TextColors.RED, "Hello ", Text.of("world"));
+        assertNotSame(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+        assertEquals(first.hashCode(), first.hashCode());
+        assertEquals(first, second);
+    }
+
+    @Test
+    public void testHashCodeFollowsMutableArguments() {
+        final Translation translation = mock(Translation.class);
+        final List<String> argument = new ArrayList<>(Arrays.asList("a"));
+        final Text mutable = Text.of(translation, argument);
+        final Text fixed = Text.of(translation, new ArrayList<>(Arrays.asList("a")));
+        assertEquals(mutable, fixed);
+        assertEquals(mutable.hashCode(), fixed.hashCode());
+
+        argument.add("b");
+        final Text changed = Text.of(translation, new ArrayList<>(Arrays.asList("a", "b")));
+        assertNotEquals(mutable, fixed);
+        assertEquals(mutable, changed);
+        assertEquals(changed.hashCode(), mutable.hashCode());
+    }
+
+    @Test
+    public void testPlainIsMemoized() {
+        final Text text = Text.of("Hello ", Text.of("world"));
+        final String plain = text.toPlain();
+        assertEquals("Hello world", plain);
+        assertSame(plain, text.toPlain());
+    }
+
+    @Test
+    public void testSingleCharactersAreShared() {
+        assertSame(Text.of(' '), Text.of(" "));
+        assertSame(Text.of(','), Text.of(','));
+        assertEquals(Text.of("é"), Text.of('é'));
+    }
+
+    @Test
+    public void testIntern() {
+        final Text first = Text.of("Line ", 1);
+        final Text second = Text.of("Line ", 1);
+        assertSame(Text.intern(first), Text.intern(second));
+    }
+
+    @Test
+    public void testPlainComparator() {
+        final List<Text> texts = new ArrayList<>(Arrays.asList(Text.of("c"), Text.of(TextColors.RED, "a"), Text.of("b")));
+        Collections.sort(texts, Text.PLAIN_COMPARATOR);
+        assertEquals(Arrays.asList(Text.of(TextColors.RED, "a"), Text.of("b"), Text.of("c")), texts);
+    }
+
+}
@@ -0,0 +1,167 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text.channel;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+import org.spongepowered.api.text.Text;
+import org.spongepowered.api.text.channel.impl.DelegateMutableMessageChannel;
+import org.spongepowered.api.text.channel.type.CombinedMessageChannel;
+import org.spongepowered.api.util.test.TestHooks;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nullable;
+
+public class MessageChannelTest {
+
+    static {
+        TestHooks.initialize();
+    }
+
+    private static final MessageChannel SILENCING = new MessageChannel() {
+
+        @Override
+        public Optional<Text> transformMessage(@Nullable Object sender, MessageReceiver recipient, Text original) {
+            return Optional.empty();
+        }
+
+        @Override
+        public List<MessageReceiver> getMembers() {
+            return new ArrayList<>();
+        }
+
+    };
+
+    @Test
+    public void testTransformingDetection() {
+        assertFalse(MessageChannel.TO_NONE.isTransforming());
+        assertFalse(MessageChannel.fixed().isTransforming());
+        assertTrue(SILENCING.isTransforming());
+        assertFalse(MessageChannel.combined(MessageChannel.TO_NONE, MessageChannel.fixed()).isTransforming());
+        assertTrue(MessageChannel.combined(MessageChannel.TO_NONE, SILENCING).isTransforming());
+        assertTrue(SILENCING.asMutable().isTransforming());
+    }
+
+    @Test
+    public void testBroadcastSendsSameInstance() {
+        final List<MessageReceiver> receivers = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            receivers.add(mock(MessageReceiver.class));
+        }
+        final Text text = Text.of("broadcast");
+        MessageChannel.fixed(receivers).send(text);
+        for (MessageReceiver receiver : receivers) {
+            verify(receiver).sendMessage(text);
+        }
+    }
+
+    @Test
+    public void testTransformingChannelIsConsulted() {
+        final MessageReceiver receiver = mock(MessageReceiver.class);
+        final Text text = Text.of("silenced");
+        MessageChannel.combined(MessageChannel.fixed(receiver), SILENCING).send(text);
+        verify(receiver).sendMessage(text);
+
+        final MessageReceiver other = mock(MessageReceiver.class);
+        final AtomicInteger transforms = new AtomicInteger();
+        new MessageChannel() {
+
+            @Override
+            public Optional<Text> transformMessage(@Nullable Object sender, MessageReceiver recipient, Text original) {
+                transforms.incrementAndGet();
+                return Optional.empty();
+            }
+
+            @Override
+            public List<MessageReceiver> getMembers() {
+                final List<MessageReceiver> members = new ArrayList<>();
+                members.add(other);
+                return members;
+            }
+
+        }.send(text);
+        assertEquals(1, transforms.get());
+        verify(other, never()).sendMessage(text);
+    }
+
+    @Test
+    public void testCombinedMembersAreReused() {
+        final MessageReceiver receiver = mock(MessageReceiver.class);
+        final MessageChannel first = MessageChannel.fixed(receiver);
+        final ImmutableSet<MessageReceiver> second = ImmutableSet.of(mock(MessageReceiver.class));
+        final MessageChannel combined = MessageChannel.combined(first, () -> second);
+        final Collection<MessageReceiver> members = combined.getMembers();
+        assertEquals(2, members.size());
+        // The fixed channel copies its recipients, so the union is rebuilt
+        assertNotSame(members, combined.getMembers());
+
+        final MessageChannel stable = MessageChannel.combined(() -> second, MessageChannel.TO_NONE);
+        assertSame(stable.getMembers(), stable.getMembers());
+    }
+
+    @Test
+    public void testTransformingSubclassesAreConsulted() {
+        final MessageReceiver receiver = mock(MessageReceiver.class);
+        final Text text = Text.of("combined");
+        final MessageChannel combined = new CombinedMessageChannel(MessageChannel.fixed(receiver)) {
+
+            @Override
+            public Optional<Text> transformMessage(@Nullable Object sender, MessageReceiver recipient, Text original) {
+                return Optional.empty();
+            }
+
+        };
+        assertTrue(combined.isTransforming());
+        combined.send(text);
+        verify(receiver, never()).sendMessage(text);
+
+        final MessageChannel delegating = new DelegateMutableMessageChannel(MessageChannel.fixed(receiver)) {
+
+            @Override
+            public Optional<Text> transformMessage(@Nullable Object sender, MessageReceiver recipient, Text original) {
+                return Optional.empty();
+            }
+
+        };
+        assertTrue(delegating.isTransforming());
+        delegating.send(text);
+        verify(receiver, never()).sendMessage(text);
+    }
+
+}
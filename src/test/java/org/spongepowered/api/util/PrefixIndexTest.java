@@ -0,0 +1,139 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class PrefixIndexTest {
+
+    private static PrefixIndex<Integer> createIndex() {
+        final PrefixIndex<Integer> index = new PrefixIndex<>();
+        index.put("Notch", 1);
+        index.put("jeb_", 2);
+        index.put("Dinnerbone", 3);
+        index.put("dinner", 4);
+        index.put("Grumm", 5);
+        return index;
+    }
+
+    @Test
+    public void testExactLookupIsCaseInsensitive() {
+        final PrefixIndex<Integer> index = createIndex();
+        assertEquals(ImmutableSet.of(1), index.get("notch"));
+        assertEquals(ImmutableSet.of(3), index.get("DINNERBONE"));
+        assertTrue(index.get("Notc").isEmpty());
+    }
+
+    @Test
+    public void testPrefixMatch() {
+        final PrefixIndex<Integer> index = createIndex();
+        assertEquals(ImmutableList.of(4, 3), index.match("DIN"));
+        assertEquals(ImmutableList.of(2), index.match("j"));
+        assertTrue(index.match("x").isEmpty());
+        assertEquals(5, index.match("").size());
+    }
+
+    @Test
+    public void testPrefixMatchLimit() {
+        final PrefixIndex<Integer> index = createIndex();
+        assertEquals(ImmutableList.of(4), index.match("din", 1));
+        assertTrue(index.match("din", 0).isEmpty());
+    }
+
+    @Test
+    public void testSharedName() {
+        final PrefixIndex<Integer> index = createIndex();
+        index.put("notch", 6);
+        assertEquals(ImmutableSet.of(1, 6), index.get("Notch"));
+        assertTrue(index.remove("NOTCH", 1));
+        assertFalse(index.remove("Notch", 1));
+        assertEquals(ImmutableSet.of(6), index.get("Notch"));
+    }
+
+    @Test
+    public void testConcurrentRemoveReportsOnce() throws Exception {
+        for (int round = 0; round < 100; round++) {
+            final PrefixIndex<Integer> index = createIndex();
+            index.put("notch", 6);
+            final AtomicInteger removed = new AtomicInteger();
+            final CountDownLatch start = new CountDownLatch(1);
+            final Thread[] threads = new Thread[4];
+            for (int i = 0; i < threads.length; i++) {
+                final int value = i % 2 == 0 ? 1 : 6;
+                threads[i] = new Thread(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    if (index.remove("Notch", value)) {
+                        removed.incrementAndGet();
+                    }
+                });
+                threads[i].start();
+            }
+            start.countDown();
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            assertEquals(2, removed.get());
+            assertTrue(index.get("Notch").isEmpty());
+        }
+    }
+
+    @Test
+    public void testNamesIgnoreDefaultLocale() {
+        final Locale locale = Locale.getDefault();
+        Locale.setDefault(new Locale("tr", "TR"));
+        try {
+            final PrefixIndex<Integer> index = new PrefixIndex<>();
+            index.put("INFO", 1);
+            assertEquals(ImmutableSet.of(1), index.get("info"));
+            assertTrue(new StartsWithPredicate("I").test("info"));
+        } finally {
+            Locale.setDefault(locale);
+        }
+    }
+
+    @Test
+    public void testRename() {
+        final PrefixIndex<Integer> index = createIndex();
+        index.rename("Grumm", "Searge", 5);
+        assertTrue(index.get("Grumm").isEmpty());
+        assertEquals(ImmutableSet.of(5), index.get("searge"));
+        assertEquals(5, index.size());
+    }
+
+}
@@ -0,0 +1,113 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.ban;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import org.junit.Test;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Optional;
+
+public class SubnetIndexTest {
+
+    private static InetAddress address(String address) throws UnknownHostException {
+        return InetAddress.getByName(address);
+    }
+
+    private static SubnetIndex<String> createIndex() throws UnknownHostException {
+        final SubnetIndex<String> index = new SubnetIndex<>();
+        index.put(address("10.0.0.0"), 8, "a");
+        index.put(address("10.1.0.0"), 16, "b");
+        index.put(address("10.1.2.3"), "c");
+        index.put(address("2001:db8::"), 32, "d");
+        return index;
+    }
+
+    @Test
+    public void testMostSpecificSubnetWins() throws UnknownHostException {
+        final SubnetIndex<String> index = createIndex();
+        assertEquals(Optional.of("c"), index.get(address("10.1.2.3")));
+        assertEquals(Optional.of("b"), index.get(address("10.1.9.9")));
+        assertEquals(Optional.of("a"), index.get(address("10.200.0.1")));
+        assertFalse(index.get(address("11.0.0.1")).isPresent());
+    }
+
+    @Test
+    public void testIpv6() throws UnknownHostException {
+        final SubnetIndex<String> index = createIndex();
+        assertEquals(Optional.of("d"), index.get(address("2001:db8::1")));
+        assertFalse(index.get(address("2001:db9::1")).isPresent());
+    }
+
+    @Test
+    public void testFilter() throws UnknownHostException {
+        final SubnetIndex<String> index = createIndex();
+        assertEquals(Optional.of("b"), index.get(address("10.1.2.3"), value -> !value.equals("c")));
+    }
+
+    @Test
+    public void testRemove() throws UnknownHostException {
+        final SubnetIndex<String> index = createIndex();
+        assertEquals(Optional.of("b"), index.remove(address("10.1.0.0"), 16));
+        assertFalse(index.remove(address("10.1.0.0"), 16).isPresent());
+        assertEquals(Optional.of("a"), index.get(address("10.1.9.9")));
+        assertEquals(Optional.of("c"), index.getExact(address("10.1.2.3"), 32));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    public void testDivergingSubnets() throws UnknownHostException {
+        final SubnetIndex<String> index = new SubnetIndex<>();
+        index.put(address("10.1.0.0"), 16, "a");
+        index.put(address("10.2.0.0"), 16, "b");
+        index.put(address("10.0.0.0"), 8, "c");
+        index.put(address("10.1.2.3"), "d");
+        assertEquals(Optional.of("a"), index.get(address("10.1.9.9")));
+        assertEquals(Optional.of("b"), index.get(address("10.2.9.9")));
+        assertEquals(Optional.of("c"), index.get(address("10.3.0.1")));
+        assertEquals(Optional.of("d"), index.get(address("10.1.2.3")));
+        assertFalse(index.getExact(address("10.0.0.0"), 14).isPresent());
+
+        assertEquals(Optional.of("a"), index.remove(address("10.1.0.0"), 16));
+        assertEquals(Optional.of("c"), index.remove(address("10.0.0.0"), 8));
+        assertEquals(Optional.of("d"), index.get(address("10.1.2.3")));
+        assertFalse(index.get(address("10.1.9.9")).isPresent());
+        assertEquals(Optional.of("b"), index.getExact(address("10.2.0.0"), 16));
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    public void testRemoveIf() throws UnknownHostException {
+        final SubnetIndex<String> index = createIndex();
+        assertEquals(2, index.removeIf(value -> value.equals("a") || value.equals("d")));
+        assertEquals(2, index.size());
+        assertFalse(index.get(address("10.200.0.1")).isPresent());
+        assertFalse(index.get(address("2001:db8::1")).isPresent());
+    }
+
+}
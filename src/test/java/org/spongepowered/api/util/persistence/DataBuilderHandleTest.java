@@ -0,0 +1,70 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.persistence;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.Test;
+import org.spongepowered.api.data.DataManager;
+import org.spongepowered.api.data.DataSerializable;
+import org.spongepowered.api.data.MemoryDataContainer;
+
+import java.util.Optional;
+
+@SuppressWarnings("unchecked")
+public class DataBuilderHandleTest {
+
+    private final DataManager manager = mock(DataManager.class);
+
+    @Test
+    public void testResolvesOnce() {
+        final DataBuilder<DataSerializable> builder = mock(DataBuilder.class);
+        when(this.manager.getBuilder(DataSerializable.class)).thenReturn(Optional.of(builder));
+        final DataBuilderHandle<DataSerializable> handle = DataBuilderHandle.of(this.manager, DataSerializable.class);
+
+        for (int i = 0; i < 3; i++) {
+            assertSame(builder, handle.getBuilder().get());
+        }
+        verify(this.manager, times(1)).getBuilder(DataSerializable.class);
+    }
+
+    @Test
+    public void testRetriesUntilRegistered() {
+        when(this.manager.getBuilder(DataSerializable.class)).thenReturn(Optional.empty());
+        final DataBuilderHandle<DataSerializable> handle = DataBuilderHandle.of(this.manager, DataSerializable.class);
+        assertFalse(handle.build(new MemoryDataContainer()).isPresent());
+
+        final DataBuilder<DataSerializable> builder = mock(DataBuilder.class);
+        when(this.manager.getBuilder(DataSerializable.class)).thenReturn(Optional.of(builder));
+        assertTrue(handle.getBuilder().isPresent());
+    }
+
+}
@@ -0,0 +1,211 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.persistence;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.spongepowered.api.data.DataQuery.of;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataView;
+import org.spongepowered.api.data.MemoryDataContainer;
+import org.spongepowered.api.world.storage.ChunkDataStream;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+public class DataContentUpdaterChainTest {
+
+    private static final DataQuery VERSION = of("Version");
+
+    @Test
+    public void testComposesVersions() {
+        final DataContentUpdaterChain chain = DataContentUpdaterChain.of(ImmutableList.of(
+                new Rename(1, 2, of("A"), of("B"), true, false),
+                new Rename(2, 3, of("B"), of("C"), true, false)));
+        assertEquals(1, chain.getInputVersion());
+        assertEquals(3, chain.getOutputVersion());
+        assertTrue(chain.updatesInPlace());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsGaps() {
+        DataContentUpdaterChain.of(ImmutableList.of(
+                new Rename(1, 2, of("A"), of("B"), true, false),
+                new Rename(3, 4, of("B"), of("C"), true, false)));
+    }
+
+    @Test
+    public void testUpdateLeavesContentUnchanged() {
+        final DataContainer content = new MemoryDataContainer().set(of("A"), "value").set(VERSION, 1);
+        final DataView updated = DataContentUpdaterChain.of(ImmutableList.of(
+                new Rename(1, 2, of("A"), of("B"), true, false),
+                new Rename(2, 3, of("B"), of("C"), true, false))).update(content);
+        assertEquals(Optional.of("value"), updated.getString(of("C")));
+        assertEquals(Optional.of(3), updated.getInt(VERSION));
+        assertEquals(Optional.of("value"), content.getString(of("A")));
+        assertFalse(content.contains(of("C")));
+    }
+
+    @Test
+    public void testUpdateInPlaceDoesNotCopy() {
+        final DataContainer content = new MemoryDataContainer().set(of("A"), "value").set(VERSION, 1);
+        final DataView updated = DataContentUpdaterChain.of(ImmutableList.of(
+                new Rename(1, 2, of("A"), of("B"), true, false))).updateInPlace(content);
+        assertSame(content, updated);
+        assertEquals(Optional.of("value"), content.getString(of("B")));
+    }
+
+    @Test
+    public void testTouchedQueriesOnlyPassSubtrees() {
+        final DataContainer content = new MemoryDataContainer()
+                .set(of("A"), "value")
+                .set(of("Other", "Nested"), 5);
+        final Rename rename = new Rename(1, 2, of("A"), of("B"), false, true);
+        final DataView updated = DataContentUpdaterChain.of(ImmutableList.of(rename)).update(content);
+        assertFalse(rename.seen.contains(of("Other")));
+        assertEquals(Optional.of("value"), updated.getString(of("B")));
+        assertFalse(updated.contains(of("A")));
+        assertEquals(Optional.of(5), updated.getInt(of("Other", "Nested")));
+
+        final DataView other = content.getView(of("Other")).get();
+        final Rename inPlace = new Rename(1, 2, of("A"), of("B"), false, true);
+        final DataView updatedInPlace = DataContentUpdaterChain.of(ImmutableList.of(inPlace)).updateInPlace(content);
+        assertFalse(inPlace.seen.contains(of("Other")));
+        assertSame(content, updatedInPlace);
+        assertSame(other, content.getView(of("Other")).get());
+        assertEquals(Optional.of("value"), content.getString(of("B")));
+        assertFalse(content.contains(of("A")));
+    }
+
+    @Test
+    public void testUpdateAllChunks() throws Exception {
+        final ChunkDataStream stream = mock(ChunkDataStream.class);
+        when(stream.hasNext()).thenReturn(true, true, false);
+        when(stream.next()).thenReturn(new MemoryDataContainer().set(of("A"), 1), new MemoryDataContainer().set(of("A"), 2));
+        final ConcurrentLinkedQueue<DataView> sink = new ConcurrentLinkedQueue<>();
+
+        final int count = DataContentUpdaterChain.of(ImmutableList.of(new Rename(1, 2, of("A"), of("B"), true, false)))
+                .updateAll(stream, sink::add, Runnable::run).get();
+        assertEquals(2, count);
+        assertEquals(2, sink.size());
+        for (DataView view : sink) {
+            assertTrue(view.contains(of("B")));
+        }
+    }
+
+    @Test
+    public void testUpdateAllBoundsWorkers() throws Exception {
+        final ChunkDataStream stream = mock(ChunkDataStream.class);
+        when(stream.hasNext()).thenReturn(true, true, true, false);
+        when(stream.next()).thenReturn(new MemoryDataContainer().set(of("A"), 1), new MemoryDataContainer().set(of("A"), 2),
+                new MemoryDataContainer().set(of("A"), 3));
+        final List<Runnable> tasks = new ArrayList<>();
+        final ConcurrentLinkedQueue<DataView> sink = new ConcurrentLinkedQueue<>();
+
+        final CompletableFuture<Integer> result = DataContentUpdaterChain.of(ImmutableList.of(
+                new Rename(1, 2, of("A"), of("B"), true, false))).updateAll(stream, sink::add, tasks::add, 2);
+        assertEquals(2, tasks.size());
+        verify(stream, never()).next();
+        assertFalse(result.isDone());
+
+        tasks.get(0).run();
+        assertEquals(3, sink.size());
+        assertFalse(result.isDone());
+        tasks.get(1).run();
+        assertEquals(Integer.valueOf(3), result.get());
+    }
+
+    private static final class Rename implements DataContentUpdater {
+
+        private final int from;
+        private final int to;
+        private final DataQuery source;
+        private final DataQuery target;
+        private final boolean inPlace;
+        private final boolean declaresQueries;
+        Set<DataQuery> seen = ImmutableSet.of();
+
+        Rename(int from, int to, DataQuery source, DataQuery target, boolean inPlace, boolean declaresQueries) {
+            this.from = from;
+            this.to = to;
+            this.source = source;
+            this.target = target;
+            this.inPlace = inPlace;
+            this.declaresQueries = declaresQueries;
+        }
+
+        @Override
+        public int getInputVersion() {
+            return this.from;
+        }
+
+        @Override
+        public int getOutputVersion() {
+            return this.to;
+        }
+
+        @Override
+        public DataView update(DataView content) {
+            this.seen = content.getKeys(false);
+            final DataView view = this.inPlace ? content : content.copy();
+            final Optional<Object> value = view.get(this.source);
+            if (value.isPresent()) {
+                view.remove(this.source);
+                view.set(this.target, value.get());
+            }
+            if (!this.declaresQueries) {
+                view.set(VERSION, this.to);
+            }
+            return view;
+        }
+
+        @Override
+        public boolean updatesInPlace() {
+            return this.inPlace;
+        }
+
+        @Override
+        public Optional<Set<DataQuery>> getTouchedQueries() {
+            return this.declaresQueries ? Optional.of(ImmutableSet.of(this.source, this.target)) : Optional.empty();
+        }
+
+    }
+
+}
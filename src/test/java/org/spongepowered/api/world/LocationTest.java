@@ -0,0 +1,68 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.flowpowered.math.vector.Vector3d;
+import com.flowpowered.math.vector.Vector3i;
+import org.junit.Test;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.util.Direction;
+import org.spongepowered.api.world.extent.Extent;
+
+public class LocationTest {
+
+    private final Extent extent = mock(Extent.class);
+
+    @Test
+    public void testRelativeBlockLocation() {
+        final Location<Extent> location = new Location<>(this.extent, new Vector3i(1, 2, 3));
+        for (Direction direction : Direction.values()) {
+            assertEquals(new Location<>(this.extent, new Vector3d(1, 2, 3).add(direction.toVector3d())), location.getRelative(direction));
+        }
+        assertEquals(new Vector3i(1, 3, 3), location.getRelative(Direction.UP).getBlockPosition());
+    }
+
+    @Test
+    public void testCursor() {
+        final BlockCursor<Extent> cursor = new Location<>(this.extent, 1, 2, 3).cursor();
+        cursor.move(Direction.NORTH).move(Direction.UP).move(2, 0, 0);
+        assertEquals(new Vector3i(3, 3, 2), cursor.getBlockPosition());
+        assertEquals(new Location<>(this.extent, 3, 3, 2), cursor.toLocation());
+
+        final BlockState state = mock(BlockState.class);
+        cursor.set(5, 6, 7).setBlock(state);
+        verify(this.extent).setBlock(5, 6, 7, state);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCursorRejectsOrdinalDirections() {
+        new BlockCursor<>(this.extent, 0, 0, 0).move(Direction.NORTHEAST);
+    }
+
+}